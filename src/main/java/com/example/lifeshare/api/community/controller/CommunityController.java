@@ -11,9 +11,14 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -54,6 +59,7 @@ public class CommunityController {
      * @description : 공지사항 목록 조회
      * @param  limit :  한 페이지에 보여줄 목록 갯수
      * @param  pageNo : 페이지 번호
+     * @param  cursor : 커서 (keyset 페이징, 첫 페이지는 빈 값)
      * @return : 공지사항 목록 정보
      * @exception ServiceException : 예외
      * @date : 2024-04-24 오전 11:23
@@ -72,12 +78,109 @@ public class CommunityController {
     @Parameters(value = {
             @Parameter(name = "limit", description = "한페이지에 보여줄 목록 갯수", required = false),
             @Parameter(name = "pageNo", description = "페이지 번호", required = false),
+            @Parameter(name = "cursor", description = "다음 페이지 커서 (응답의 nextCursor, 첫 페이지는 빈 값)", required = false),
     })
     @GetMapping("")
     @ResponseWrapper
     public Map reqGetCommunityList(@RequestParam(required = false, defaultValue = "0") int limit,
-                                   @RequestParam(required = false, defaultValue = "0") int pageNo) throws ServiceException {
-        return communityService.reqGetCommunityList(limit, pageNo);
+                                   @RequestParam(required = false, defaultValue = "0") int pageNo,
+                                   @RequestParam(required = false) String cursor) throws ServiceException {
+        return communityService.reqGetCommunityList(limit, pageNo, cursor);
+    }
+
+    /**
+     * @funcName : reqGetCommunityListStream
+     * @description : 공지사항 목록 스트리밍 조회 (대량/전체 조회용, 행 단위로 응답 전송)
+     * @param  limit :  한 페이지에 보여줄 목록 갯수 (0 이면 전체)
+     * @param  pageNo : 페이지 번호
+     * @return : 공지사항 목록 정보 (totalCnt, communityList), 동시 처리 제한 초과 시 503
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 7:50
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    @Operation(summary = "공지사항 목록 스트리밍 조회 API", description = "공지사항 목록을 행 단위로 전송한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
+            @ApiResponse(responseCode = "503", description = "Service Unavailable"),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
+    })
+    @Parameters(value = {
+            @Parameter(name = "limit", description = "한페이지에 보여줄 목록 갯수 (0 이면 전체)", required = false),
+            @Parameter(name = "pageNo", description = "페이지 번호", required = false),
+    })
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> reqGetCommunityListStream(@RequestParam(required = false, defaultValue = "0") int limit,
+                                                                           @RequestParam(required = false, defaultValue = "0") int pageNo) throws ServiceException {
+        StreamingResponseBody body = communityService.reqGetCommunityListStream(limit, pageNo);
+        if (body == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * @funcName : reqGetCommunitySearch
+     * @description : 공지사항 검색 (제목/내용, 관련도순)
+     * @param  q : 검색어
+     * @param  limit : 최대 건수
+     * @return : 검색 결과 (totalCnt, communityList)
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 6:40
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    @Operation(summary = "공지사항 검색 API", description = "공지사항 제목/내용을 검색한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(description = "Bad Request", example = "Bad Request"))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
+    })
+    @Parameters(value = {
+            @Parameter(name = "q", description = "검색어", required = true),
+            @Parameter(name = "limit", description = "최대 건수", required = false),
+    })
+    @GetMapping("/search")
+    @ResponseWrapper
+    public Map reqGetCommunitySearch(@RequestParam(required = false) String q,
+                                     @RequestParam(required = false, defaultValue = "0") int limit) throws ServiceException {
+        return communityService.reqGetCommunitySearch(q, limit);
+    }
+
+    /**
+     * @funcName : reqGetCommunityInfo
+     * @description : 공지사항 상세 조회 (본문, 첨부파일)
+     * @param  boardId : 게시판 ID
+     * @param  response : HttpServletResponse 객체 (없으면 404)
+     * @return : 공지사항 정보
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 8:20
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    @Operation(summary = "공지사항 상세 조회 API", description = "공지사항 본문과 첨부파일을 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(description = "Not Found", example = "Not Found"))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
+    })
+    @GetMapping("/{boardId}")
+    @ResponseWrapper
+    public CommunityDto reqGetCommunityInfo(@PathVariable String boardId,
+                                            HttpServletResponse response) throws ServiceException {
+        CommunityDto communityDto = communityService.reqGetCommunityInfo(boardId);
+        if (communityDto == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+        }
+        return communityDto;
     }
 
     /**
@@ -6,6 +6,7 @@ import com.example.lifeshare.cmm.exception.ServiceException;
 import org.apache.ibatis.annotations.Mapper;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author : minyoung
@@ -46,6 +47,111 @@ public interface CommunityMapper {
      **/
     int selectOneCommunityCnt(CommunityListReqDto communityListReqDto, int ctgrId) throws ServiceException;
 
+    /**
+     * @funcName : selectListCommunityByIdList
+     * @description : 게시글 ID 목록으로 공지사항 목록 조회 (순서 보장 없음, 본문 대신 요약)
+     * @param communityIdList : communityIdList 객체
+     * @return : 공지사항 목록
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 6:40
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    List<CommunityDto> selectListCommunityByIdList(List<String> communityIdList) throws ServiceException;
+
+    /**
+     * @funcName : selectOneCommunityDetail
+     * @description : 공지사항 상세 조회 (본문 + 첨부파일 join 조회)
+     * @param boardId : 게시판 ID
+     * @return : 공지사항 정보 (없으면 null)
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 8:50
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    CommunityDto selectOneCommunityDetail(String boardId) throws ServiceException;
+
+    /**
+     * @funcName : selectListCommunitySearchSourceByIdList
+     * @description : 검색 색인 반영용 공지사항 목록 조회 (board_id, title, cont)
+     * @param communityIdList : communityIdList 객체
+     * @return : 공지사항 목록
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 8:20
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    List<CommunityDto> selectListCommunitySearchSourceByIdList(List<String> communityIdList) throws ServiceException;
+
+    /**
+     * @funcName : selectListCommunityExcerptBackfill
+     * @description : 요약 미생성 공지사항 목록 조회 (board_id 순 배치)
+     * @param lastBoardId : 이전 배치의 마지막 게시판 ID
+     * @param limit : 조회 건수
+     * @return : 공지사항 목록 (board_id, cont)
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 8:20
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    List<CommunityDto> selectListCommunityExcerptBackfill(long lastBoardId, int limit) throws ServiceException;
+
+    /**
+     * @funcName : updateCommunityExcerptBatch
+     * @description : 공지사항 요약 일괄 수정
+     * @param communityList : 공지사항 목록 (boardId, excerpt)
+     * @return : 수정 건수
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 8:20
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    int updateCommunityExcerptBatch(List<CommunityDto> communityList) throws ServiceException;
+
+    /**
+     * @funcName : selectListCommunitySearchSource
+     * @description : 검색 색인 적재용 공지사항 목록 조회 (board_id 순 배치)
+     * @param lastBoardId : 이전 배치의 마지막 게시판 ID
+     * @param limit : 조회 건수
+     * @return : 공지사항 목록 (board_id, title, cont)
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 6:40
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    List<CommunityDto> selectListCommunitySearchSource(long lastBoardId, int limit) throws ServiceException;
+
+    /**
+     * @funcName : selectListCommunityCntGroupByCtgr
+     * @description : 카테고리별 공지사항 갯수 조회
+     * @return : 카테고리별 갯수 (ctgrId, cnt)
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오전 11:02
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    List<Map<String, Object>> selectListCommunityCntGroupByCtgr() throws ServiceException;
+
+    /**
+     * @funcName : selectListCommunityCntByIdList
+     * @description : 게시글 ID 목록의 카테고리별 갯수 조회
+     * @param communityIdList : communityIdList 객체
+     * @return : 카테고리별 갯수 (ctgrId, cnt)
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오전 11:02
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    List<Map<String, Object>> selectListCommunityCntByIdList(List<String> communityIdList) throws ServiceException;
+
     /**
      * @funcName insertCommunityInfo:
      * @description : 공지사항 등록
@@ -44,6 +44,12 @@ public class CommunityDto {
     @Schema(description = "내용", nullable = true)
     private String cont;
 
+    /**
+     * 본문 요약 (목록용, 태그 제거 텍스트)
+     */
+    @Schema(description = "본문 요약", nullable = true, accessMode = Schema.AccessMode.READ_ONLY)
+    private String excerpt;
+
     /**
      * 등록일자
      */
@@ -50,5 +50,17 @@ public class CommunityListReqDto extends ListCommonDto{
     @Schema(description = "카테고리 ID", nullable = true)
     private String ctgrId;
 
+    /**
+     * 커서 등록일자 (keyset 페이징)
+     */
+    @Schema(description = "커서 등록일자", nullable = true)
+    private String cursorRegDt;
+
+    /**
+     * 커서 게시판 ID (keyset 페이징)
+     */
+    @Schema(description = "커서 게시판 ID", nullable = true)
+    private String cursorBoardId;
+
 }
 
@@ -0,0 +1,130 @@
+package com.example.lifeshare.api.community.service;
+
+import com.example.lifeshare.api.community.mapper.CommunityMapper;
+import com.example.lifeshare.cmm.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author : minyoung
+ * @version : 1.0.0
+ * @className : CommunityCntCache
+ * @description : 카테고리별 공지사항 갯수 캐시
+ * - 기동 시 DB 값으로 초기화
+ * - 등록/삭제 커밋 후 메모리에서 증감
+ * - 주기적으로 DB 값과 재동기화
+ * @date : 2026-10-18 오전 11:05
+ * @history :
+ * @see
+ **/
+@Slf4j
+@Component
+public class CommunityCntCache {
+
+    /**
+     * CommunityMapper 객체
+     */
+    private final CommunityMapper communityMapper;
+
+    /**
+     * 카테고리 ID 별 갯수
+     */
+    private final Map<String, AtomicInteger> cntMap = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CommunityCntCache(CommunityMapper communityMapper) {
+        this.communityMapper = communityMapper;
+    }
+
+    /**
+     * 기동 완료 후 초기 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reconcile();
+    }
+
+    /**
+     * 주기적 DB 재동기화
+     */
+    @Scheduled(fixedDelayString = "${community.cnt-cache.reconcile-ms:300000}",
+            initialDelayString = "${community.cnt-cache.reconcile-ms:300000}")
+    public void reconcile() {
+        try {
+            List<Map<String, Object>> cntList = communityMapper.selectListCommunityCntGroupByCtgr();
+            Set<String> ctgrIdSet = new HashSet<>();
+            for (Map<String, Object> item : cntList) {
+                String ctgrId = String.valueOf(item.get("ctgrId"));
+                int cnt = ((Number) item.get("cnt")).intValue();
+                cntMap.computeIfAbsent(ctgrId, k -> new AtomicInteger()).set(cnt);
+                ctgrIdSet.add(ctgrId);
+            }
+            // 게시글이 모두 삭제된 카테고리는 조회 결과에 없으므로 0 으로 설정
+            for (Map.Entry<String, AtomicInteger> entry : cntMap.entrySet()) {
+                if (!ctgrIdSet.contains(entry.getKey())) {
+                    entry.getValue().set(0);
+                }
+            }
+            log.debug("community count cache reconciled: {}", cntMap);
+        } catch (DataAccessException | ServiceException e) {
+            log.warn("community count cache reconcile failed", e);
+        }
+    }
+
+    /**
+     * 카테고리 갯수 조회 - 캐시에 없으면 DB 조회 후 적재
+     */
+    public int getCnt(int ctgrId) throws ServiceException {
+        String key = String.valueOf(ctgrId);
+        AtomicInteger cnt = cntMap.get(key);
+        if (cnt != null) {
+            return cnt.get();
+        }
+        int dbCnt = communityMapper.selectOneCommunityCnt(null, ctgrId);
+        cntMap.putIfAbsent(key, new AtomicInteger(dbCnt));
+        return dbCnt;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 갯수 증감 (트랜잭션 밖이면 즉시 반영)
+     */
+    public void addAfterCommit(String ctgrId, int delta) {
+        if (ctgrId == null || delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(ctgrId, delta);
+                }
+            });
+        } else {
+            add(ctgrId, delta);
+        }
+    }
+
+    /**
+     * 적재되지 않은 카테고리는 다음 조회 시 DB 값으로 적재되므로 증감하지 않는다.
+     */
+    private void add(String ctgrId, int delta) {
+        AtomicInteger cnt = cntMap.get(ctgrId);
+        if (cnt != null) {
+            cnt.updateAndGet(v -> Math.max(0, v + delta));
+        }
+    }
+}
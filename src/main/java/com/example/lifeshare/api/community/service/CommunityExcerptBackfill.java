@@ -0,0 +1,102 @@
+package com.example.lifeshare.api.community.service;
+
+import com.example.lifeshare.api.community.mapper.CommunityMapper;
+import com.example.lifeshare.api.community.model.CommunityDto;
+import com.example.lifeshare.cmm.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * @author : minyoung
+ * @version : 1.0.0
+ * @className : CommunityExcerptBackfill
+ * @description : 요약(excerpt) 컬럼 추가 전 등록된 공지사항의 요약 생성
+ * - 기동 완료 후 excerpt 가 NULL 인 행을 board_id 순 배치로 조회하여 일괄 수정
+ * - 본문이 없는 행은 빈 문자열로 채워 다시 조회되지 않도록 함
+ * @date : 2026-10-18 오후 8:20
+ * @history :
+ * @see
+ **/
+@Slf4j
+@Component
+public class CommunityExcerptBackfill {
+
+    /**
+     * CommunityMapper 객체
+     */
+    private final CommunityMapper communityMapper;
+
+    /**
+     * CommunityPageCache 객체
+     */
+    private final CommunityPageCache communityPageCache;
+
+    /**
+     * CommunityPostCache 객체
+     */
+    private final CommunityPostCache communityPostCache;
+
+    /**
+     * 사용 여부
+     */
+    @Value("${community.excerpt.backfill-enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 1회 조회/수정 건수
+     */
+    @Value("${community.excerpt.batch-size:500}")
+    private int batchSize;
+
+    @Autowired
+    public CommunityExcerptBackfill(CommunityMapper communityMapper,
+                                    CommunityPageCache communityPageCache,
+                                    CommunityPostCache communityPostCache) {
+        this.communityMapper = communityMapper;
+        this.communityPageCache = communityPageCache;
+        this.communityPostCache = communityPostCache;
+    }
+
+    /**
+     * 기동 완료 후 요약 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long startTime = System.currentTimeMillis();
+            int updatedCnt = 0;
+            long lastBoardId = 0L;
+            List<CommunityDto> boardList;
+            do {
+                boardList = communityMapper.selectListCommunityExcerptBackfill(lastBoardId, batchSize);
+                if (boardList.isEmpty()) {
+                    break;
+                }
+                for (CommunityDto board : boardList) {
+                    board.setExcerpt(CommunityText.excerpt(board.getCont()));
+                    board.setCont(null);
+                    lastBoardId = Long.parseLong(board.getBoardId());
+                }
+                updatedCnt += communityMapper.updateCommunityExcerptBatch(boardList);
+            } while (boardList.size() == batchSize);
+
+            if (updatedCnt > 0) {
+                communityPageCache.invalidate();
+                communityPostCache.invalidateAll();
+                log.info("community excerpt backfilled: count={}, {}ms", updatedCnt, System.currentTimeMillis() - startTime);
+            }
+        } catch (DataAccessException | ServiceException | NumberFormatException e) {
+            log.warn("community excerpt backfill failed", e);
+        }
+    }
+}
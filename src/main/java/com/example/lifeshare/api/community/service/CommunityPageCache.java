@@ -0,0 +1,121 @@
+package com.example.lifeshare.api.community.service;
+
+import com.example.lifeshare.api.file.model.FileAttachChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * @author : minyoung
+ * @version : 1.0.0
+ * @className : CommunityPageCache
+ * @description : 공지사항 목록 앞쪽 페이지 응답 캐시
+ * - (카테고리, limit, pageNo) 기준, 짧은 TTL 후 만료
+ * - 같은 키의 동시 미스는 하나의 조회만 수행하고 나머지는 결과를 기다림
+ * - 등록/수정/삭제 및 첨부파일 등록/삭제(FileAttachChangedEvent) 시 즉시 + 커밋 후 세대 증가로 전체 무효화 (무효화 전에 시작된 조회 결과는 이전 세대 키로 적재되어 사용되지 않음)
+ * @date : 2026-10-18 오후 7:20
+ * @history :
+ * @see
+ **/
+@Component
+public class CommunityPageCache {
+
+    /**
+     * 캐시 대상 최대 페이지 (pageNo 기준, 이후 페이지는 캐시하지 않음)
+     */
+    @Value("${community.page-cache.max-page-no:3}")
+    private int maxPageNo;
+
+    /**
+     * 캐시 대상 최대 limit
+     */
+    @Value("${community.page-cache.max-limit:100}")
+    private int maxLimit;
+
+    /**
+     * 캐시 사용 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 캐시 객체
+     */
+    private final Cache<PageKey, Map<String, Object>> cache;
+
+    /**
+     * 무효화 세대
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public CommunityPageCache(@Value("${community.page-cache.enabled:true}") boolean enabled,
+                              @Value("${community.page-cache.ttl-ms:5000}") long ttlMs,
+                              @Value("${community.page-cache.max-size:256}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "communityPage");
+    }
+
+    /**
+     * 캐시 대상 여부 (offset 페이징의 앞쪽 페이지만, limit 0(전체)은 제외)
+     */
+    public boolean isCacheable(int limit, int pageNo) {
+        return enabled && limit > 0 && limit <= maxLimit && pageNo >= 0 && pageNo <= maxPageNo;
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 조회 후 적재 (같은 키 동시 요청은 한 번만 조회)
+     */
+    public Map<String, Object> get(String ctgrId, int limit, int pageNo, Supplier<Map<String, Object>> loader) {
+        return cache.get(new PageKey(generation.get(), ctgrId, limit, pageNo), key -> loader.get());
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 중이면 커밋 후 한 번 더 무효화 (커밋 전 재적재 방지)
+     */
+    public void invalidate() {
+        invalidateNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidateNow();
+                }
+            });
+        }
+    }
+
+    /**
+     * 첨부파일 등록/삭제 시 무효화 (목록 응답에 첨부파일 포함)
+     */
+    @EventListener
+    public void onFileAttachChanged(FileAttachChangedEvent event) {
+        invalidate();
+    }
+
+    private void invalidateNow() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 키
+     */
+    private record PageKey(long generation, String ctgrId, int limit, int pageNo) {
+    }
+}
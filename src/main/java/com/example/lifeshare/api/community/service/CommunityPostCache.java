@@ -0,0 +1,97 @@
+package com.example.lifeshare.api.community.service;
+
+import com.example.lifeshare.api.community.model.CommunityDto;
+import com.example.lifeshare.api.file.model.FileAttachChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * @author : minyoung
+ * @version : 1.0.0
+ * @className : CommunityPostCache
+ * @description : 공지사항 상세(게시글 + 첨부파일) 캐시
+ * - boardId 기준, 수정/삭제 시 무효화 (다른 인스턴스의 변경은 TTL 로 반영)
+ * - 파일 API 로 첨부파일이 등록/삭제된 경우에도 FileAttachChangedEvent 로 무효화
+ * - 없는 게시글(null)은 적재하지 않음
+ * @date : 2026-10-18 오후 8:50
+ * @history :
+ * @see
+ **/
+@Component
+public class CommunityPostCache {
+
+    /**
+     * 캐시 객체
+     */
+    private final Cache<String, CommunityDto> cache;
+
+    public CommunityPostCache(@Value("${community.post-cache.ttl-ms:600000}") long ttlMs,
+                              @Value("${community.post-cache.max-size:1000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "communityPost");
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 조회 후 적재 (같은 키 동시 요청은 한 번만 조회)
+     */
+    public CommunityDto get(String boardId, Function<String, CommunityDto> loader) {
+        if (boardId == null) {
+            return loader.apply(null);
+        }
+        return cache.get(boardId, loader);
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 중이면 커밋 후 한 번 더 무효화 (커밋 전 재적재 방지)
+     */
+    public void invalidate(Collection<String> boardIdList) {
+        List<String> keyList = new ArrayList<>();
+        for (String boardId : boardIdList) {
+            if (boardId != null) {
+                keyList.add(boardId);
+            }
+        }
+        cache.invalidateAll(keyList);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(keyList);
+                }
+            });
+        }
+    }
+
+    /**
+     * 첨부파일 등록/삭제 시 대상 게시글 무효화
+     */
+    @EventListener
+    public void onFileAttachChanged(FileAttachChangedEvent event) {
+        invalidate(event.targIdList());
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
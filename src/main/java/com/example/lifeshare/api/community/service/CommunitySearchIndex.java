@@ -0,0 +1,378 @@
+package com.example.lifeshare.api.community.service;
+
+import com.example.lifeshare.api.community.mapper.CommunityMapper;
+import com.example.lifeshare.api.community.model.CommunityDto;
+import com.example.lifeshare.cmm.exception.ServiceException;
+import com.nhncorp.lucy.security.xss.XssPreventer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author : minyoung
+ * @version : 1.0.0
+ * @className : CommunitySearchIndex
+ * @description : 공지사항 검색용 메모리 역색인
+ * - 제목/내용(HTML 제거)을 NFKC 정규화 후 글자/숫자 구간별 2-gram + 1-gram 으로 색인
+ * - 검색어는 글자/숫자 구간별 2-gram (한 글자 구간은 1-gram 으로 '서' 검색 시 '서울' 포함 게시글 일치)
+ * - 검색어의 모든 토큰을 포함하는 게시글만 결과로, 토큰 희소도(idf) x 빈도(제목 가중) 합으로 정렬
+ * - 기동 시 board_id 순 배치 조회로 적재, 등록/수정/삭제 커밋 후 해당 게시글만 재색인
+ * - 다른 인스턴스의 변경은 주기적 재구축으로 반영 (재구축 중 변경된 게시글은 교체 직전 다시 반영)
+ * - DB 조회는 잠금 밖에서 수행하고 색인 변경/검색만 잠금 안에서 수행
+ * @date : 2026-10-18 오후 6:40
+ * @history :
+ * @see
+ **/
+@Slf4j
+@Component
+public class CommunitySearchIndex {
+
+    /**
+     * 제목 토큰 가중치
+     */
+    private static final int TITLE_WEIGHT = 3;
+
+    /**
+     * CommunityMapper 객체
+     */
+    private final CommunityMapper communityMapper;
+
+    /**
+     * 적재 1회 조회 건수
+     */
+    @Value("${community.search.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 현재 색인 (재구축 시 통째로 교체)
+     */
+    private volatile Index index = new Index();
+
+    /**
+     * 재구축 중 변경된 게시글 ID (재구축 중이 아니면 null)
+     */
+    private Set<Long> rebuildDirtySet;
+
+    /**
+     * 적재 완료 여부
+     */
+    private volatile boolean ready;
+
+    @Autowired
+    public CommunitySearchIndex(CommunityMapper communityMapper) {
+        this.communityMapper = communityMapper;
+    }
+
+    /**
+     * 기동 완료 후 초기 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    /**
+     * 주기적 재구축
+     */
+    @Scheduled(fixedDelayString = "${community.search.rebuild-ms:3600000}",
+            initialDelayString = "${community.search.rebuild-ms:3600000}")
+    public void rebuild() {
+        synchronized (this) {
+            if (rebuildDirtySet != null) {
+                return;
+            }
+            rebuildDirtySet = new HashSet<>();
+        }
+        try {
+            long startTime = System.currentTimeMillis();
+            Index newIndex = new Index();
+            long lastBoardId = 0L;
+            List<CommunityDto> boardList;
+            do {
+                boardList = communityMapper.selectListCommunitySearchSource(lastBoardId, batchSize);
+                for (CommunityDto board : boardList) {
+                    lastBoardId = Long.parseLong(board.getBoardId());
+                    newIndex.put(lastBoardId, board.getTitle(), board.getCont());
+                }
+            } while (boardList.size() == batchSize);
+
+            // 재구축 중 커밋된 변경 반영 후 교체 (반영 중 다시 변경되면 반복)
+            while (true) {
+                List<Long> dirtyList;
+                synchronized (this) {
+                    if (rebuildDirtySet.isEmpty()) {
+                        index = newIndex;
+                        ready = true;
+                        break;
+                    }
+                    dirtyList = new ArrayList<>(rebuildDirtySet);
+                    rebuildDirtySet.clear();
+                }
+                apply(newIndex, dirtyList, load(dirtyList));
+            }
+            log.info("community search index rebuilt: docs={}, tokens={}, {}ms",
+                    newIndex.docTokenMap.size(), newIndex.postingMap.size(), System.currentTimeMillis() - startTime);
+        } catch (DataAccessException | ServiceException | NumberFormatException e) {
+            log.warn("community search index rebuild failed", e);
+        } finally {
+            synchronized (this) {
+                rebuildDirtySet = null;
+            }
+        }
+    }
+
+    /**
+     * 적재 완료 여부 (미완료 시 검색 결과가 불완전할 수 있음)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 게시글 재색인 (DB 에 없으면 색인에서 제거, 트랜잭션 밖이면 즉시 반영)
+     */
+    public void reindexAfterCommit(List<String> boardIdList) {
+        if (boardIdList == null || boardIdList.isEmpty()) {
+            return;
+        }
+        List<String> idList = new ArrayList<>(boardIdList);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reindex(idList);
+                }
+            });
+        } else {
+            reindex(idList);
+        }
+    }
+
+    /**
+     * 게시글 재색인 - 색인 실패는 다음 재구축에서 복구되므로 요청은 실패시키지 않는다.
+     */
+    private void reindex(List<String> boardIdList) {
+        try {
+            List<Long> idList = new ArrayList<>();
+            for (String boardId : boardIdList) {
+                idList.add(Long.parseLong(boardId));
+            }
+            Map<Long, CommunityDto> boardMap = load(idList);
+            synchronized (this) {
+                apply(index, idList, boardMap);
+                if (rebuildDirtySet != null) {
+                    rebuildDirtySet.addAll(idList);
+                }
+            }
+        } catch (DataAccessException | ServiceException | NumberFormatException e) {
+            log.warn("community search reindex failed: {}", boardIdList, e);
+        }
+    }
+
+    /**
+     * 재색인 대상 게시글 조회 (잠금 밖에서 호출)
+     */
+    private Map<Long, CommunityDto> load(List<Long> idList) throws ServiceException {
+        List<String> boardIdList = new ArrayList<>();
+        for (Long id : idList) {
+            boardIdList.add(String.valueOf(id));
+        }
+        Map<Long, CommunityDto> boardMap = new HashMap<>();
+        for (CommunityDto board : communityMapper.selectListCommunitySearchSourceByIdList(boardIdList)) {
+            boardMap.put(Long.parseLong(board.getBoardId()), board);
+        }
+        return boardMap;
+    }
+
+    /**
+     * 조회 결과를 색인에 반영 - 조회 결과에 없는 게시글은 제거
+     */
+    private static void apply(Index target, List<Long> idList, Map<Long, CommunityDto> boardMap) {
+        for (Long id : idList) {
+            CommunityDto board = boardMap.get(id);
+            if (board == null) {
+                target.remove(id);
+            } else {
+                target.put(id, board.getTitle(), board.getCont());
+            }
+        }
+    }
+
+    /**
+     * 검색 - 순위순 게시글 ID 목록
+     *
+     * @param query 검색어
+     * @param limit 최대 건수
+     */
+    public SearchResult search(String query, int limit) {
+        List<String> tokenList = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (tokenList.isEmpty()) {
+            return new SearchResult(0, new ArrayList<>());
+        }
+        synchronized (this) {
+            return index.search(tokenList, limit);
+        }
+    }
+
+    /**
+     * 검색어 토큰 분리 - NFKC 정규화, 소문자, 글자/숫자 구간별 2-gram (한 글자 구간은 1-gram)
+     */
+    static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    /**
+     * 색인 토큰 분리 - 검색어 토큰 분리의 2-gram 에 구간 내 모든 1-gram 추가 (한 글자 검색어 일치용)
+     */
+    static List<String> indexTokenize(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean unigram) {
+        List<String> tokenList = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokenList;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int runStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean word = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (word && runStart < 0) {
+                runStart = i;
+            } else if (!word && runStart >= 0) {
+                if (unigram || i - runStart == 1) {
+                    for (int j = runStart; j < i; j++) {
+                        tokenList.add(normalized.substring(j, j + 1));
+                    }
+                }
+                for (int j = runStart; j + 2 <= i; j++) {
+                    tokenList.add(normalized.substring(j, j + 2));
+                }
+                runStart = -1;
+            }
+        }
+        return tokenList;
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param totalCnt    검색어를 모두 포함하는 게시글 수
+     * @param boardIdList 순위순 게시글 ID (최대 limit 건)
+     */
+    public record SearchResult(int totalCnt, List<String> boardIdList) {
+    }
+
+    private record Match(long boardId, double score) {
+    }
+
+    /**
+     * 역색인 (동기화는 CommunitySearchIndex 에서 처리)
+     */
+    private static final class Index {
+
+        /**
+         * 토큰 -> (게시글 ID -> 가중 빈도)
+         */
+        private final Map<String, Map<Long, Integer>> postingMap = new HashMap<>();
+
+        /**
+         * 게시글 ID -> 색인된 토큰 (재색인/삭제 시 제거용)
+         */
+        private final Map<Long, Set<String>> docTokenMap = new HashMap<>();
+
+        void put(long boardId, String title, String cont) {
+            remove(boardId);
+            Map<String, Integer> freqMap = new HashMap<>();
+            for (String token : indexTokenize(XssPreventer.unescape(title == null ? "" : title))) {
+                freqMap.merge(token, TITLE_WEIGHT, Integer::sum);
+            }
+            for (String token : indexTokenize(CommunityText.plainText(cont))) {
+                freqMap.merge(token, 1, Integer::sum);
+            }
+            for (Map.Entry<String, Integer> entry : freqMap.entrySet()) {
+                postingMap.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).put(boardId, entry.getValue());
+            }
+            docTokenMap.put(boardId, new HashSet<>(freqMap.keySet()));
+        }
+
+        void remove(long boardId) {
+            Set<String> tokenSet = docTokenMap.remove(boardId);
+            if (tokenSet == null) {
+                return;
+            }
+            for (String token : tokenSet) {
+                Map<Long, Integer> posting = postingMap.get(token);
+                if (posting != null) {
+                    posting.remove(boardId);
+                    if (posting.isEmpty()) {
+                        postingMap.remove(token);
+                    }
+                }
+            }
+        }
+
+        SearchResult search(List<String> tokenList, int limit) {
+            List<Map<Long, Integer>> postingList = new ArrayList<>();
+            for (String token : tokenList) {
+                Map<Long, Integer> posting = postingMap.get(token);
+                if (posting == null) {
+                    return new SearchResult(0, new ArrayList<>());
+                }
+                postingList.add(posting);
+            }
+            // 가장 짧은 posting 기준으로 교집합
+            postingList.sort((a, b) -> Integer.compare(a.size(), b.size()));
+            int docCnt = Math.max(1, docTokenMap.size());
+            double[] idf = new double[postingList.size()];
+            for (int i = 0; i < postingList.size(); i++) {
+                idf[i] = Math.log(1.0 + (double) docCnt / postingList.get(i).size());
+            }
+
+            List<Match> matchList = new ArrayList<>();
+            for (Map.Entry<Long, Integer> entry : postingList.get(0).entrySet()) {
+                long boardId = entry.getKey();
+                double score = idf[0] * (1.0 + Math.log(entry.getValue()));
+                boolean matched = true;
+                for (int i = 1; i < postingList.size(); i++) {
+                    Integer freq = postingList.get(i).get(boardId);
+                    if (freq == null) {
+                        matched = false;
+                        break;
+                    }
+                    score += idf[i] * (1.0 + Math.log(freq));
+                }
+                if (matched) {
+                    matchList.add(new Match(boardId, score));
+                }
+            }
+            // 점수 내림차순, 동점은 최신(board_id 큰) 순
+            matchList.sort((a, b) -> {
+                int cmp = Double.compare(b.score(), a.score());
+                return cmp != 0 ? cmp : Long.compare(b.boardId(), a.boardId());
+            });
+            List<String> boardIdList = new ArrayList<>();
+            for (int i = 0; i < Math.min(limit, matchList.size()); i++) {
+                boardIdList.add(String.valueOf(matchList.get(i).boardId()));
+            }
+            return new SearchResult(matchList.size(), boardIdList);
+        }
+    }
+}
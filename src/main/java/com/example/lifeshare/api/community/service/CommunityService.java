@@ -5,18 +5,28 @@ import com.example.lifeshare.api.community.mapper.CommunityMapper;
 import com.example.lifeshare.api.community.model.CommunityDto;
 import com.example.lifeshare.api.community.model.CommunityListReqDto;
 import com.example.lifeshare.api.file.model.FileDto;
+import com.example.lifeshare.api.file.model.StagedFileDto;
 import com.example.lifeshare.api.file.service.FileService;
 import com.example.lifeshare.cmm.exception.ServiceException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 
 
 /**
@@ -35,6 +45,42 @@ public class CommunityService {
     @Value("${file.community-path}")
     private String communityPath;
 
+    /**
+     * 커서 페이징 시 limit 미지정 기본 건수
+     */
+    @Value("${community.cursor-default-limit:20}")
+    private int cursorDefaultLimit;
+
+    /**
+     * 검색 결과 기본 / 최대 건수
+     */
+    @Value("${community.search.default-limit:20}")
+    private int searchDefaultLimit;
+
+    @Value("${community.search.max-limit:100}")
+    private int searchMaxLimit;
+
+    /**
+     * 검색어 최대 길이
+     */
+    @Value("${community.search.max-query-length:100}")
+    private int searchMaxQueryLength;
+
+    /**
+     * 커서 구분자
+     */
+    private static final String CURSOR_SEPARATOR = "|";
+
+    /**
+     * 스트리밍 조회 1회 조회/출력 단위 (행 수)
+     */
+    private static final int STREAM_CHUNK_SIZE = 500;
+
+    /**
+     * 스트리밍 조회 동시 처리 제한
+     */
+    private final Semaphore streamPermits;
+
     /**
      * CommunityMapper 객체
      */
@@ -45,49 +91,132 @@ public class CommunityService {
      */
     private final FileService fileService;
 
-    public CommunityService(CommunityMapper communityMapper, FileService fileService) {
+    /**
+     * CommunityCntCache 객체
+     */
+    private final CommunityCntCache communityCntCache;
+
+    /**
+     * CommunitySearchIndex 객체
+     */
+    private final CommunitySearchIndex communitySearchIndex;
+
+    /**
+     * CommunityPageCache 객체
+     */
+    private final CommunityPageCache communityPageCache;
+
+    /**
+     * CommunityPostCache 객체
+     */
+    private final CommunityPostCache communityPostCache;
+
+    /**
+     * TransactionTemplate 객체
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * ObjectMapper 객체 (스트리밍 응답 직렬화)
+     */
+    private final ObjectMapper objectMapper;
+
+    public CommunityService(CommunityMapper communityMapper,
+                            FileService fileService,
+                            CommunityCntCache communityCntCache,
+                            CommunitySearchIndex communitySearchIndex,
+                            CommunityPageCache communityPageCache,
+                            CommunityPostCache communityPostCache,
+                            TransactionTemplate transactionTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${community.stream.max-concurrent:2}") int streamMaxConcurrent) {
         this.communityMapper = communityMapper;
         this.fileService = fileService;
+        this.communityCntCache = communityCntCache;
+        this.communitySearchIndex = communitySearchIndex;
+        this.communityPageCache = communityPageCache;
+        this.communityPostCache = communityPostCache;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.streamPermits = new Semaphore(streamMaxConcurrent);
     }
 
     /**
      * @param limit        한 페이지당 요청 건수
      * @param pageNo       페이지 번호
+     * @param cursor       이전 응답의 nextCursor (null 이면 offset 페이징, 빈 값이면 커서 페이징 첫 페이지)
      * @return : 공지사항 목록 정보
      * @throws ServiceException : 예외
      * @funcName : reqGetCommunityList
      * @description : 공지사항 목록 조회
      * @date : 2024-04-24 오전 10:27
      * @author : minyoung
-     * @history :
+     * @history : 2026-10-18 커서(keyset) 페이징 추가
+     *             2026-10-18 앞쪽 페이지 응답 캐시
      * @see
      **/
     public Map<String, Object> reqGetCommunityList(int limit,
-                                                   int pageNo) throws ServiceException {
+                                                   int pageNo,
+                                                   String cursor) throws ServiceException {
+        int ctgrId = 1;
+        if (cursor == null && communityPageCache.isCacheable(limit, pageNo)) {
+            return new HashMap<>(communityPageCache.get(String.valueOf(ctgrId), limit, pageNo,
+                    () -> selectCommunityList(ctgrId, limit, pageNo, null)));
+        }
+        return selectCommunityList(ctgrId, limit, pageNo, cursor);
+    }
+
+    /**
+     * 공지사항 목록 조회 (목록 + 첨부파일 + 전체 갯수)
+     */
+    private Map<String, Object> selectCommunityList(int ctgrId,
+                                                    int limit,
+                                                    int pageNo,
+                                                    String cursor) throws ServiceException {
         try {
             Map<String, Object> resultMap = new HashMap<>();
 
-            int ctgrId = 1;
+            boolean cursorMode = cursor != null;
+            if (cursorMode && limit <= 0) {
+                limit = cursorDefaultLimit;
+            }
 
             CommunityListReqDto communityListReqDto = CommunityListReqDto.builder()
+                    .ctgrId(String.valueOf(ctgrId))
                     .limit(limit)
                     .pageNo(pageNo)
                     .build();
 
-            List<CommunityDto> communityList = communityMapper.selectListCommunity(communityListReqDto);
+            if (cursorMode && !cursor.isBlank()) {
+                String[] cursorInfo = decodeCursor(cursor);
+                communityListReqDto.setCursorRegDt(cursorInfo[0]);
+                communityListReqDto.setCursorBoardId(cursorInfo[1]);
+            }
 
+            List<CommunityDto> communityList = communityMapper.selectListCommunity(communityListReqDto);
 
+            // 첨부파일은 게시글 목록 단위로 한 번에 조회
+            List<String> boardIdList = new ArrayList<>();
             for (CommunityDto item : communityList) {
-                FileDto fileDto = new FileDto();
-                fileDto.setTargId(item.getBoardId());
-                List<FileDto> fileList = fileService.reqGetFileList(fileDto);
-
-                item.setFileList(fileList);
+                boardIdList.add(item.getBoardId());
+            }
+            Map<String, List<FileDto>> fileListMap = fileService.reqGetFileListGroupByTargId(boardIdList);
+            for (CommunityDto item : communityList) {
+                item.setFileList(fileListMap.getOrDefault(item.getBoardId(), new ArrayList<>()));
             }
 
-            resultMap.put("totalCnt", communityMapper.selectOneCommunityCnt(communityListReqDto, ctgrId));
+            resultMap.put("totalCnt", communityCntCache.getCnt(ctgrId));
             resultMap.put("communityList", communityList);
 
+            if (cursorMode) {
+                String nextCursor = null;
+                if (communityList.size() == limit) {
+                    CommunityDto last = communityList.get(communityList.size() - 1);
+                    nextCursor = encodeCursor(last.getRegDt(), last.getBoardId());
+                }
+                resultMap.put("nextCursor", nextCursor);
+            }
+
             return resultMap;
 
         } catch (ServiceException e) {
@@ -96,6 +225,178 @@ public class CommunityService {
         }
     }
 
+    /**
+     * @param limit  : 한 페이지당 요청 건수 (0 이면 전체)
+     * @param pageNo : 페이지 번호
+     * @return : 응답 본문 작성 객체 ({"totalCnt": n, "communityList": [...]}), 동시 처리 제한 초과 시 null
+     * @throws ServiceException : 예외
+     * @funcName : reqGetCommunityListStream
+     * @description : 공지사항 목록 스트리밍 조회
+     * - STREAM_CHUNK_SIZE 행씩 (reg_dt, board_id) keyset 으로 나눠 조회하고 JsonGenerator 로 바로 출력
+     * - 조회마다 커넥션을 반납하므로 느린 클라이언트가 커넥션/커서를 붙잡지 않음 (첨부파일도 묶음 단위 별도 조회)
+     * - 동시 처리 건수 제한 (community.stream.max-concurrent)
+     * - 전체 갯수는 응답 시작 전에 조회하고, 출력 중 오류는 연결 종료로 전달
+     * @date : 2026-10-18 오후 7:50
+     * @author : minyoung
+     * @history :
+     * @see
+     **/
+    public StreamingResponseBody reqGetCommunityListStream(int limit, int pageNo) throws ServiceException {
+        int ctgrId = 1;
+        if (!streamPermits.tryAcquire()) {
+            return null;
+        }
+        int totalCnt;
+        try {
+            totalCnt = communityCntCache.getCnt(ctgrId);
+        } catch (DataAccessException | ServiceException e) {
+            streamPermits.release();
+            log.error(e.getMessage());
+            throw new ServiceException(e.getMessage());
+        }
+
+        return outputStream -> {
+            try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)) {
+                jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                jsonGenerator.writeStartObject();
+                jsonGenerator.writeNumberField("totalCnt", totalCnt);
+                jsonGenerator.writeArrayFieldStart("communityList");
+
+                // 첫 묶음은 요청 위치(offset)부터, 이후는 마지막 행 기준 keyset
+                int remaining = limit > 0 ? limit : Integer.MAX_VALUE;
+                CommunityListReqDto communityListReqDto = CommunityListReqDto.builder()
+                        .ctgrId(String.valueOf(ctgrId))
+                        .limit(Math.min(STREAM_CHUNK_SIZE, remaining))
+                        .pageNo(pageNo)
+                        .build();
+                while (true) {
+                    List<CommunityDto> chunk = communityMapper.selectListCommunity(communityListReqDto);
+                    writeCommunityChunk(jsonGenerator, chunk);
+                    remaining -= chunk.size();
+                    if (chunk.size() < communityListReqDto.getLimit() || remaining <= 0) {
+                        break;
+                    }
+                    CommunityDto last = chunk.get(chunk.size() - 1);
+                    communityListReqDto = CommunityListReqDto.builder()
+                            .ctgrId(String.valueOf(ctgrId))
+                            .limit(Math.min(STREAM_CHUNK_SIZE, remaining))
+                            .cursorRegDt(last.getRegDt())
+                            .cursorBoardId(last.getBoardId())
+                            .build();
+                }
+                jsonGenerator.writeEndArray();
+                jsonGenerator.writeEndObject();
+            } catch (DataAccessException | ServiceException e) {
+                log.error(e.getMessage(), e);
+                throw new IOException(e.getMessage(), e);
+            } catch (IOException e) {
+                log.warn("community list stream aborted: {}", e.getMessage());
+                throw e;
+            } finally {
+                streamPermits.release();
+            }
+        };
+    }
+
+    /**
+     * 스트리밍 조회 행 묶음 출력 - 첨부파일 일괄 조회 후 출력
+     */
+    private void writeCommunityChunk(JsonGenerator jsonGenerator, List<CommunityDto> chunk) throws IOException, ServiceException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<String> boardIdList = new ArrayList<>();
+        for (CommunityDto item : chunk) {
+            boardIdList.add(item.getBoardId());
+        }
+        Map<String, List<FileDto>> fileListMap = fileService.reqGetFileListGroupByTargId(boardIdList);
+        for (CommunityDto item : chunk) {
+            item.setFileList(fileListMap.getOrDefault(item.getBoardId(), new ArrayList<>()));
+            jsonGenerator.writeObject(item);
+        }
+        jsonGenerator.flush();
+    }
+
+    /**
+     * @param boardId : 게시판 ID
+     * @return : 공지사항 정보 (본문, 첨부파일 포함, 없으면 null)
+     * @throws ServiceException : 예외
+     * @funcName : reqGetCommunityInfo
+     * @description : 공지사항 상세 조회 (목록은 요약만 제공하므로 본문은 상세에서 조회)
+     * - 게시글과 첨부파일을 한 번의 join 조회로 가져오고 게시글 단위로 캐시
+     * @date : 2026-10-18 오후 8:20
+     * @author : minyoung
+     * @history : 2026-10-18 첨부파일 join 조회 및 게시글 단위 캐시
+     * @see
+     **/
+    public CommunityDto reqGetCommunityInfo(String boardId) throws ServiceException {
+        try {
+            return communityPostCache.get(boardId, id -> {
+                CommunityDto communityDto = communityMapper.selectOneCommunityDetail(id);
+                if (communityDto != null && communityDto.getFileList() == null) {
+                    communityDto.setFileList(new ArrayList<>());
+                }
+                return communityDto;
+            });
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            throw new ServiceException(e.getMessage());
+        }
+    }
+
+    /**
+     * @param query : 검색어
+     * @param limit : 최대 건수 (0 이면 기본 건수)
+     * @return : 검색 결과 (totalCnt, communityList - 순위순)
+     * @throws ServiceException : 예외
+     * @funcName : reqGetCommunitySearch
+     * @description : 공지사항 검색 - 메모리 역색인으로 순위순 게시글 ID 조회 후 한 번에 조회
+     * @date : 2026-10-18 오후 6:40
+     * @author : minyoung
+     * @history :
+     * @see
+     **/
+    public Map<String, Object> reqGetCommunitySearch(String query, int limit) throws ServiceException {
+        if (query == null || query.isBlank()) {
+            throw new ServiceException("검색어를 입력해 주세요.");
+        }
+        if (query.length() > searchMaxQueryLength) {
+            throw new ServiceException("검색어는 " + searchMaxQueryLength + "자 이하로 입력해 주세요.");
+        }
+        limit = limit <= 0 ? searchDefaultLimit : Math.min(limit, searchMaxLimit);
+        try {
+            Map<String, Object> resultMap = new HashMap<>();
+            CommunitySearchIndex.SearchResult searchResult = communitySearchIndex.search(query, limit);
+
+            List<CommunityDto> communityList = new ArrayList<>();
+            if (!searchResult.boardIdList().isEmpty()) {
+                Map<String, CommunityDto> communityMap = new HashMap<>();
+                for (CommunityDto item : communityMapper.selectListCommunityByIdList(searchResult.boardIdList())) {
+                    communityMap.put(item.getBoardId(), item);
+                }
+                // 색인 순위 유지 (색인 반영 전 삭제된 게시글은 제외)
+                for (String boardId : searchResult.boardIdList()) {
+                    CommunityDto item = communityMap.get(boardId);
+                    if (item != null) {
+                        communityList.add(item);
+                    }
+                }
+                Map<String, List<FileDto>> fileListMap = fileService.reqGetFileListGroupByTargId(searchResult.boardIdList());
+                for (CommunityDto item : communityList) {
+                    item.setFileList(fileListMap.getOrDefault(item.getBoardId(), new ArrayList<>()));
+                }
+            }
+
+            resultMap.put("totalCnt", searchResult.totalCnt());
+            resultMap.put("communityList", communityList);
+            resultMap.put("indexReady", communitySearchIndex.isReady());
+            return resultMap;
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            throw new ServiceException(e.getMessage());
+        }
+    }
+
     /**
      * @funcName : reqPutCommunityInfo
      * @description : 공지사항 정보 수정
@@ -105,37 +406,49 @@ public class CommunityService {
      * @date : 2024-05-16 오전 9:53
      * @author : minyoung
      * @see
-     * @history :
+     * @history : 2026-10-18 첨부파일 병렬 임시저장 후 일괄 등록
+     *             2026-10-18 본문 삽입 파일 게시글 연결
      **/
-    @Transactional
     public Boolean reqPutCommunityInfo(CommunityDto communityDto,
                                        MultipartFile[] files) throws ServiceException {
-        try {
-            //xss 필터
-            communityDto.setBoardId(XssPreventer.escape(communityDto.getBoardId()));
-            communityDto.setTitle(XssPreventer.escape(communityDto.getTitle()));
+        //xss 필터
+        communityDto.setBoardId(XssPreventer.escape(communityDto.getBoardId()));
+        communityDto.setTitle(XssPreventer.escape(communityDto.getTitle()));
 //            communityDto.setCont(XssPreventer.escape(communityDto.getCont()));
+        // 목록용 요약 (본문 수정 시에만 갱신)
+        communityDto.setExcerpt(communityDto.getCont() == null ? null : CommunityText.excerpt(communityDto.getCont()));
 
-            int result = communityMapper.reqPutCommunityInfo(communityDto);
-            if (result > 0) {
-
-                // 파일 등록
-                if (files != null && files.length > 0) {
-                    for (int i = 0; i < files.length; i++) {
-                        String originalFilename = files[i].getOriginalFilename();
-                        if (originalFilename != null && !originalFilename.isEmpty()) {
-                            fileService.fileUpload(files[i], communityDto.getBoardId(), "C:/NS_IMG/", "N", "community");
-                        }
+        // 첨부파일 디스크 기록은 트랜잭션(DB 커넥션) 밖에서 병렬 수행
+        List<StagedFileDto> stagedList = fileService.stageFiles(files, communityPath);
+        try {
+            Boolean saved = transactionTemplate.execute(status -> {
+                int result = communityMapper.reqPutCommunityInfo(communityDto);
+                if (result > 0) {
+                    communityPageCache.invalidate();
+                    communityPostCache.invalidate(List.of(communityDto.getBoardId()));
+                    communitySearchIndex.reindexAfterCommit(List.of(communityDto.getBoardId()));
+                    // 본문 삽입 파일 연결 (본문 수정 시에만)
+                    if (communityDto.getCont() != null) {
+                        fileService.attachContentFiles(communityDto.getBoardId(), CommunityText.contentFileIdList(communityDto.getCont()));
                     }
+                    // 파일 등록
+                    fileService.saveStagedFiles(stagedList, communityDto.getBoardId(), "N", "community");
+                    return true;
+                } else {
+                    return false;
                 }
-
-                return true;
-            }else {
-                return false;
+            });
+            if (!Boolean.TRUE.equals(saved)) {
+                fileService.discardStagedFiles(stagedList);
             }
-        }catch (DataAccessException e) {
+            return saved;
+        } catch (DataAccessException e) {
             log.error(e.getMessage());
+            fileService.discardStagedFiles(stagedList);
             throw new ServiceException(e.getMessage());
+        } catch (ServiceException e) {
+            fileService.discardStagedFiles(stagedList);
+            throw e;
         }
     }
 
@@ -148,32 +461,47 @@ public class CommunityService {
      * @date : 2024-04-30 오후 3:24
      * @author : minyoung
      * @see
-     * @history :
+     * @history : 2026-10-18 첨부파일 병렬 임시저장 후 일괄 등록
+     *             2026-10-18 본문 삽입 파일 게시글 연결
      **/
-    @Transactional(rollbackFor = {Exception.class, Error.class})
     public Boolean reqPostCommunityInfo(CommunityDto communityDto, MultipartFile[] files) throws ServiceException {
-        try {
-            //xss 필터
-            communityDto.setTitle(XssPreventer.escape(communityDto.getTitle()));
+        //xss 필터
+        communityDto.setTitle(XssPreventer.escape(communityDto.getTitle()));
 //            communityDto.setCont(XssPreventer.escape(communityDto.getCont()));
-            communityDto.setRegDt(XssPreventer.escape(communityDto.getRegDt()));
-
-            int result = communityMapper.insertCommunityInfo(communityDto);
-            if (result > 0) {
-                //file 파일 등록
-                if (files != null) {
-                    for (int i = 0; i < files.length; i++) {
-                        fileService.fileUpload(files[i], communityDto.getBoardId(), communityPath, "N", "community");
-                    }
+        communityDto.setRegDt(XssPreventer.escape(communityDto.getRegDt()));
+        // 목록용 요약
+        communityDto.setExcerpt(CommunityText.excerpt(communityDto.getCont()));
+
+        // 첨부파일 디스크 기록은 트랜잭션(DB 커넥션) 밖에서 병렬 수행
+        List<StagedFileDto> stagedList = fileService.stageFiles(files, communityPath);
+        try {
+            Boolean saved = transactionTemplate.execute(status -> {
+                int result = communityMapper.insertCommunityInfo(communityDto);
+                if (result > 0) {
+                    // insertCommunityInfo 는 ctgr_id '1' 로 등록
+                    communityCntCache.addAfterCommit("1", result);
+                    communityPageCache.invalidate();
+                    communitySearchIndex.reindexAfterCommit(List.of(communityDto.getBoardId()));
+                    // 본문 삽입 파일 연결
+                    fileService.attachContentFiles(communityDto.getBoardId(), CommunityText.contentFileIdList(communityDto.getCont()));
+                    //file 파일 등록
+                    fileService.saveStagedFiles(stagedList, communityDto.getBoardId(), "N", "community");
+                    return true;
+                } else {
+                    return false;
                 }
-                return true;
-            } else {
-                return false;
+            });
+            if (!Boolean.TRUE.equals(saved)) {
+                fileService.discardStagedFiles(stagedList);
             }
-
+            return saved;
         } catch (DataAccessException e) {
             log.error(e.getMessage());
+            fileService.discardStagedFiles(stagedList);
             throw new ServiceException(e.getMessage());
+        } catch (ServiceException e) {
+            fileService.discardStagedFiles(stagedList);
+            throw e;
         }
     }
 
@@ -191,8 +519,18 @@ public class CommunityService {
     @Transactional
     public Boolean reqDeleteCommunityInfo(List<String> communityIdList) throws ServiceException {
         try {
+            List<Map<String, Object>> ctgrCntList = communityMapper.selectListCommunityCntByIdList(communityIdList);
             int result = communityMapper.reqDeleteCommunityInfo(communityIdList);
+            communitySearchIndex.reindexAfterCommit(communityIdList);
+            communityPageCache.invalidate();
+            communityPostCache.invalidate(communityIdList);
+            for (Map<String, Object> item : ctgrCntList) {
+                communityCntCache.addAfterCommit(String.valueOf(item.get("ctgrId")), -((Number) item.get("cnt")).intValue());
+            }
+            List<FileDto> fileList = fileService.reqGetFileListByTargIdList(communityIdList);
             int fileResult = communityMapper.reqDeleteCommunityFileInfo(communityIdList);
+            fileService.releaseFiles(fileList);
+            fileService.detachContentFiles(communityIdList);
 
             if (result > 0 && fileResult > 0) {
                 return true;
@@ -204,4 +542,28 @@ public class CommunityService {
             throw new ServiceException(e.getMessage());
         }
     }
+
+    /**
+     * 커서 문자열 생성 - (reg_dt, board_id) 를 base64url 로 감싼 불투명 값
+     */
+    private String encodeCursor(String regDt, String boardId) {
+        String raw = regDt + CURSOR_SEPARATOR + boardId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 - [reg_dt, board_id]
+     */
+    private String[] decodeCursor(String cursor) throws ServiceException {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(CURSOR_SEPARATOR);
+            if (idx <= 0 || idx == raw.length() - 1) {
+                throw new ServiceException("유효하지 않은 커서입니다.");
+            }
+            return new String[]{raw.substring(0, idx), raw.substring(idx + 1)};
+        } catch (IllegalArgumentException e) {
+            throw new ServiceException("유효하지 않은 커서입니다.");
+        }
+    }
 }
@@ -0,0 +1,80 @@
+package com.example.lifeshare.api.community.service;
+
+import com.nhncorp.lucy.security.xss.XssPreventer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * @author : minyoung
+ * @version : 1.0.0
+ * @className : CommunityText
+ * @description : 공지사항 본문(HTML) 텍스트 처리 (검색 색인, 목록 요약, 삽입 파일 추출)
+ * @date : 2026-10-18 오후 8:20
+ * @history :
+ * @see
+ **/
+final class CommunityText {
+
+    /**
+     * 요약 최대 길이 (문자 수, lf_board_list.excerpt 컬럼 크기와 맞춤)
+     */
+    static final int EXCERPT_MAX_LENGTH = 200;
+
+    /**
+     * HTML 태그
+     */
+    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]*>");
+
+    /**
+     * 연속 공백
+     */
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    /**
+     * 본문에 삽입된 컨텐츠 업로드 파일 url (/api/file?fileId={fileId}), 다른 경로/파라미터의 fileId 는 제외
+     */
+    private static final Pattern CONTENT_FILE_ID_PATTERN = Pattern.compile("/api/file\\?fileId=(\\d+)");
+
+    private CommunityText() {
+    }
+
+    /**
+     * 본문 HTML -> 텍스트 (태그 제거, 엔티티 복원)
+     */
+    static String plainText(String html) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+        return XssPreventer.unescape(HTML_TAG_PATTERN.matcher(html).replaceAll(" ")).replace("&nbsp;", " ");
+    }
+
+    /**
+     * 목록용 요약 - 텍스트의 공백을 정리해 최대 길이로 자르고 (잘리면 '…'), 제목과 같이 escape
+     */
+    static String excerpt(String html) {
+        String text = WHITESPACE_PATTERN.matcher(plainText(html)).replaceAll(" ").trim();
+        if (text.codePointCount(0, text.length()) > EXCERPT_MAX_LENGTH) {
+            text = text.substring(0, text.offsetByCodePoints(0, EXCERPT_MAX_LENGTH - 1)).trim() + "…";
+        }
+        return XssPreventer.escape(text);
+    }
+
+    /**
+     * 본문에 삽입된 파일 아이디 목록 (중복 제거, 등장 순)
+     */
+    static List<String> contentFileIdList(String html) {
+        Set<String> fileIdSet = new LinkedHashSet<>();
+        if (html != null) {
+            Matcher matcher = CONTENT_FILE_ID_PATTERN.matcher(html);
+            while (matcher.find()) {
+                fileIdSet.add(matcher.group(1));
+            }
+        }
+        return new ArrayList<>(fileIdSet);
+    }
+}
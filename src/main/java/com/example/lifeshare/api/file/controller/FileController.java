@@ -1,6 +1,8 @@
 package com.example.lifeshare.api.file.controller;
 
 import com.example.lifeshare.api.file.model.FileDto;
+import com.example.lifeshare.api.file.model.FileUploadDto;
+import com.example.lifeshare.api.file.service.FileChunkUploadService;
 import com.example.lifeshare.api.file.service.FileService;
 import com.example.lifeshare.cmm.annotation.ResponseWrapper;
 import com.example.lifeshare.cmm.exception.ServiceException;
@@ -12,13 +14,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -38,65 +42,170 @@ public class FileController {
      */
     private final FileService fileService;
 
+    /**
+     * FileChunkUploadService 객체
+     */
+    private final FileChunkUploadService fileChunkUploadService;
+
     /**
      * FileController 생성자
      * - Field Injection 방지
      *
      * @param fileService FileService 객체
+     * @param fileChunkUploadService FileChunkUploadService 객체
      * @author taejin
      * @version 1.0
      **/
     @Autowired
-    public FileController(FileService fileService) {
+    public FileController(FileService fileService,
+                          FileChunkUploadService fileChunkUploadService) {
         this.fileService = fileService;
+        this.fileChunkUploadService = fileChunkUploadService;
     }
 
     /**
      * @funcName : reqGetFileInfo
      * @description : 파일 조회
      * @param fileDto : FileDto 객체
-     * @return ResponseEntity<Resource> : 파일 정보(리소스)
+     * @param request : HttpServletRequest 객체 (Range 헤더)
+     * @param response : HttpServletResponse 객체
      * @exception ServiceException : 예외
      * @date : 2024-05-02 오후 2:04
      * @author : minyoung
      * @see
-     * @history :
+     * @history : 2026-10-18 Range(206) 응답 및 zero-copy 전송
      **/
     @Operation(summary = "파일 조회 API", description = "파일을 조회한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "206", description = "Partial Content"),
+            @ApiResponse(responseCode = "416", description = "Range Not Satisfiable"),
             @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(description = "Bad Request", example = "Bad Request"))),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
             @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(description = "Not Found", example = "Not Found"))),
             @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
     })
     @GetMapping("")
-    public ResponseEntity<Resource> reqGetFileInfo(@Parameter(name = "fileDto", description = "파일 정보 DTO") @RequestBody FileDto fileDto) throws ServiceException {
-        return fileService.reqGetFileInfo(fileDto);
+    public void reqGetFileInfo(@Parameter(name = "fileDto", description = "파일 정보 DTO") FileDto fileDto,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws ServiceException {
+        fileService.reqGetFileInfo(fileDto, request, response);
+    }
+
+    /**
+     * @funcName : reqGetFileThumb
+     * @description : 이미지 썸네일 조회 (최초 요청 시 생성 후 원본 옆에 저장)
+     * @param fileId : 파일 아이디
+     * @param w : 최대 가로 (px, file.thumb.sizes 허용 크기만)
+     * @param h : 최대 세로 (px, file.thumb.sizes 허용 크기만)
+     * @param request : HttpServletRequest 객체
+     * @param response : HttpServletResponse 객체
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 3:10
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    @Operation(summary = "이미지 썸네일 조회 API", description = "이미지 파일의 썸네일(JPEG/PNG)을 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "304", description = "Not Modified"),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(description = "Bad Request", example = "Bad Request"))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(description = "Not Found", example = "Not Found"))),
+            @ApiResponse(responseCode = "415", description = "Unsupported Media Type"),
+            @ApiResponse(responseCode = "503", description = "Service Unavailable"),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
+    })
+    @GetMapping("/{fileId}/thumb")
+    public void reqGetFileThumb(@PathVariable String fileId,
+                                @RequestParam(required = false, defaultValue = "200") int w,
+                                @RequestParam(required = false, defaultValue = "200") int h,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws ServiceException {
+        fileService.reqGetFileThumb(fileId, w, h, request, response);
+    }
+
+    /**
+     * @funcName : reqGetFileVideo
+     * @description : 영상 후처리 상태 및 포스터/HLS url 조회
+     * @param fileId : 원본 영상 파일 아이디
+     * @return Map : status(NONE/PENDING/RUNNING/DONE/FAILED/SKIPPED), posterUrl, hlsUrl
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 6:10
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    @Operation(summary = "영상 후처리 조회 API", description = "영상 파일의 후처리 상태와 포스터/HLS url 을 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
+    })
+    @GetMapping("/{fileId}/video")
+    @ResponseWrapper
+    public Map<String, Object> reqGetFileVideo(@PathVariable String fileId) throws ServiceException {
+        return fileService.reqGetFileVideo(fileId);
+    }
+
+    /**
+     * @funcName : reqGetFileHls
+     * @description : HLS 재생 목록/구간 파일 조회 (재생 목록의 구간 파일은 같은 경로의 상대 경로로 요청)
+     * @param fileId : 원본 영상 파일 아이디
+     * @param fileNm : 재생 목록 또는 구간 파일명
+     * @param request : HttpServletRequest 객체 (Range 헤더)
+     * @param response : HttpServletResponse 객체
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 6:10
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    @Operation(summary = "HLS 파일 조회 API", description = "영상 파일의 HLS 재생 목록/구간 파일을 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "206", description = "Partial Content"),
+            @ApiResponse(responseCode = "302", description = "Found (저장소 서명 URL, 구간 파일만)"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(description = "Not Found", example = "Not Found"))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
+    })
+    @GetMapping("/{fileId}/hls/{fileNm:.+}")
+    public void reqGetFileHls(@PathVariable String fileId,
+                              @PathVariable String fileNm,
+                              HttpServletRequest request,
+                              HttpServletResponse response) throws ServiceException {
+        fileService.reqGetFileHls(fileId, fileNm, request, response);
     }
 
     /**
      * @funcName : reqPostFileInfo
      * @description : 파일 다운로드
      * @param fileDto : FileDto 객체
-     * @return ResponseEntity<Resource> : 파일 정보(리소스)
+     * @param request : HttpServletRequest 객체 (Range 헤더)
+     * @param response : HttpServletResponse 객체
      * @exception ServiceException : 예외
      * @date : 2024-05-02 오후 2:04
      * @author : minyoung
      * @see
-     * @history :
+     * @history : 2026-10-18 Range(206) 응답 및 zero-copy 전송
      **/
     @Operation(summary = "파일 다운로드 API", description = "파일을 다운로드한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "206", description = "Partial Content"),
+            @ApiResponse(responseCode = "416", description = "Range Not Satisfiable"),
             @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(description = "Bad Request", example = "Bad Request"))),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
             @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(description = "Not Found", example = "Not Found"))),
             @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
     })
     @PostMapping("")
-    public ResponseEntity<Resource> reqPostFileInfo(FileDto fileDto) throws ServiceException {
-        return fileService.fileDownload(fileDto);
+    public void reqPostFileInfo(FileDto fileDto,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws ServiceException {
+        fileService.fileDownload(fileDto, request, response);
     }
 
    /**
@@ -126,6 +235,178 @@ public class FileController {
         return fileService.reqPostContentFileUpload(file);
     };
 
+   /**
+    * @funcName : reqFileUploadStream
+    * @description : 스트리밍 파일 업로드 (컨테이너 임시파일 미사용)
+    * - 폼 필드(targId, typeNm, videoYn)는 파일 파트보다 앞에 전송
+    * @param request : HttpServletRequest 객체 (multipart 본문)
+    * @return List : 파일별 업로드 결과 정보
+    * - 파일명, 성공여부, 파일 다운로드 url, 크기, SHA-256
+    * @exception ServiceException : 예외
+    * @date : 2026-10-18 오후 1:40
+    * @author : minyoung
+    * @see
+    * @history :
+    **/
+   @Operation(summary = "스트리밍 파일 업로드 API", description = "요청 본문을 임시파일 없이 업로드 디렉토리에 바로 기록한다.")
+   @ApiResponses({
+           @ApiResponse(responseCode = "200", description = "Success"),
+           @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(description = "Bad Request", example = "Bad Request"))),
+           @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
+           @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(description = "Not Found", example = "Not Found"))),
+           @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
+   })
+    @PostMapping(value = "/upload/stream", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
+    public List<Map<String, Object>> reqFileUploadStream(HttpServletRequest request) throws ServiceException {
+        return fileService.reqPostFileUploadStream(request);
+    }
+
+    /**
+     * @funcName : reqChunkUploadInit
+     * @description : 분할(이어받기) 업로드 시작
+     * @param fileUploadDto : 업로드 정보 (realFileNm, fileSize, contentType, targId, typeNm, videoYn)
+     * @return Map : 업로드 아이디, 권장 구간 크기, 수신 구간
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 4:20
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    @Operation(summary = "분할 업로드 시작 API", description = "분할 업로드를 시작하고 업로드 아이디를 발급한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(description = "Bad Request", example = "Bad Request"))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(description = "Not Found", example = "Not Found"))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
+    })
+    @PostMapping("/upload/chunked")
+    public Map<String, Object> reqChunkUploadInit(FileUploadDto fileUploadDto) throws ServiceException {
+        return fileChunkUploadService.reqPostChunkUploadInit(fileUploadDto);
+    }
+
+    /**
+     * @funcName : reqChunkUpload
+     * @description : 분할 업로드 구간 전송 (요청 본문을 offset 위치에 기록)
+     * @param uploadId : 업로드 아이디
+     * @param offset : 구간 시작 위치
+     * @param request : HttpServletRequest 객체 (application/octet-stream 본문)
+     * @return Map : 수신 크기, 수신 구간
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 4:20
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    @Operation(summary = "분할 업로드 구간 전송 API", description = "요청 본문을 offset 위치에 기록한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(description = "Bad Request", example = "Bad Request"))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(description = "Not Found", example = "Not Found"))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
+    })
+    @PutMapping(value = "/upload/chunked/{uploadId}", consumes = {MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public Map<String, Object> reqChunkUpload(@PathVariable String uploadId,
+                                              @RequestParam long offset,
+                                              HttpServletRequest request) throws ServiceException, IOException {
+        return fileChunkUploadService.reqPutChunk(uploadId, offset, request.getContentLengthLong(), request.getInputStream());
+    }
+
+    /**
+     * @funcName : reqChunkUploadStatus
+     * @description : 분할 업로드 수신 상태 조회
+     * @param uploadId : 업로드 아이디
+     * @return Map : 상태, 전체 크기, 수신 구간
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 4:20
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    @Operation(summary = "분할 업로드 상태 조회 API", description = "분할 업로드 수신 구간을 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(description = "Bad Request", example = "Bad Request"))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(description = "Not Found", example = "Not Found"))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
+    })
+    @GetMapping("/upload/chunked/{uploadId}")
+    public Map<String, Object> reqChunkUploadStatus(@PathVariable String uploadId) throws ServiceException {
+        return fileChunkUploadService.reqGetChunkUploadStatus(uploadId);
+    }
+
+    /**
+     * @funcName : reqChunkUploadComplete
+     * @description : 분할 업로드 완료 (전체 구간 수신 확인 후 파일 등록)
+     * @param uploadId : 업로드 아이디
+     * @return Map : 파일명, 성공여부, 파일 다운로드 url, 크기, SHA-256
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 4:20
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    @Operation(summary = "분할 업로드 완료 API", description = "수신이 끝난 분할 업로드를 파일로 등록한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(description = "Bad Request", example = "Bad Request"))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(description = "Not Found", example = "Not Found"))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
+    })
+    @PostMapping("/upload/chunked/{uploadId}/complete")
+    public Map<String, Object> reqChunkUploadComplete(@PathVariable String uploadId) throws ServiceException {
+        return fileChunkUploadService.reqPostChunkUploadComplete(uploadId);
+    }
+
+    /**
+     * @funcName : reqChunkUploadCancel
+     * @description : 분할 업로드 취소
+     * @param uploadId : 업로드 아이디
+     * @return Boolean : 취소 여부
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 4:20
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    @Operation(summary = "분할 업로드 취소 API", description = "분할 업로드를 취소하고 수신 파일을 삭제한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(description = "Bad Request", example = "Bad Request"))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(description = "Not Found", example = "Not Found"))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
+    })
+    @DeleteMapping("/upload/chunked/{uploadId}")
+    @ResponseWrapper
+    public Boolean reqChunkUploadCancel(@PathVariable String uploadId) throws ServiceException {
+        return fileChunkUploadService.reqDeleteChunkUpload(uploadId);
+    }
+
+    /**
+     * @funcName : reqGetFileCacheStats
+     * @description : 파일 캐시 통계 조회
+     * @return Map : 캐시별 hit / miss / eviction 통계
+     * @date : 2026-10-18 오후 4:20
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    @Operation(summary = "파일 캐시 통계 조회 API", description = "파일 캐시 통계를 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
+    })
+    @GetMapping("/cache/stats")
+    @ResponseWrapper
+    public Map<String, Object> reqGetFileCacheStats() {
+        return fileService.reqGetFileCacheStats();
+    }
+
     /**
      * 파일을 삭제한다.
      *
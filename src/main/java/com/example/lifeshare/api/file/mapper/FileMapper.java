@@ -1,10 +1,16 @@
 package com.example.lifeshare.api.file.mapper;
 
+import com.example.lifeshare.api.file.model.FileBlobDto;
 import com.example.lifeshare.api.file.model.FileDto;
+import com.example.lifeshare.api.file.model.FileTombstoneDto;
+import com.example.lifeshare.api.file.model.FileUploadDto;
+import com.example.lifeshare.api.file.model.FileUploadRangeDto;
+import com.example.lifeshare.api.file.model.FileVideoDto;
 import com.example.lifeshare.cmm.exception.ServiceException;
 import org.apache.ibatis.annotations.Mapper;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * FileMapper 클래스
@@ -28,6 +34,19 @@ public interface FileMapper {
      **/
     List<FileDto> reqGetFileList(FileDto fileDto) throws ServiceException;
 
+    /**
+     * @funcName : reqGetFileListByTargIdList
+     * @description : 게시글 ID 목록에 해당하는 첨부파일 목록 일괄 조회
+     * @param targIdList : 타겟 아이디 목록
+     * @return List<FileDto> : 파일 목록 정보
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오전 10:12
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    List<FileDto> reqGetFileListByTargIdList(List<String> targIdList) throws ServiceException;
+
     /**
      * @funcName : reqGetFileInfo
      * @description : 파일 정보 조회
@@ -54,6 +73,19 @@ public interface FileMapper {
      **/
     int reqPostFileInfo(FileDto fileDto) throws ServiceException;
 
+    /**
+     * @funcName : reqPostFileInfoBatch
+     * @description : 파일 정보 일괄 등록 (multi-row INSERT, 생성된 fileId 는 각 FileDto 에 설정)
+     * @param fileList : FileDto 목록
+     * @return int: 등록 건수
+     * @exception ServiceException : 예외
+     * @date : 2026-10-18 오후 3:10
+     * @author : minyoung
+     * @see
+     * @history :
+     **/
+    int reqPostFileInfoBatch(List<FileDto> fileList) throws ServiceException;
+
     /**
      * 파일 정보를 조회한다.
      *
@@ -76,4 +108,492 @@ public interface FileMapper {
      **/
     int deleteFileInfo(String fileId) throws ServiceException;
 
-}
\ No newline at end of file
+    /**
+     * 파일 정보를 일괄 조회한다.
+     *
+     * @param fileIdList 첨부파일 아이디 목록
+     * @return List<FileDto> 파일 목록
+     * @author minyoung
+     * @version 1.0
+     **/
+    List<FileDto> selectListFileInfoByIdList(List<String> fileIdList) throws ServiceException;
+
+    /**
+     * 파일 정보를 일괄 삭제한다.
+     *
+     * @param fileIdList 첨부파일 아이디 목록
+     * @return int 삭제 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int deleteFileInfoByIdList(List<String> fileIdList) throws ServiceException;
+
+    /**
+     * 파일 blob 을 등록한다. 이미 있으면 참조수를 증가한다.
+     *
+     * @param fileBlobDto FileBlobDto 객체
+     * @return int 1: 신규 등록, 2: 참조수 증가
+     * @author minyoung
+     * @version 1.0
+     **/
+    int insertFileBlob(FileBlobDto fileBlobDto) throws ServiceException;
+
+    /**
+     * 파일 blob 정보를 조회한다.
+     *
+     * @param blobHash blob 해시
+     * @return FileBlobDto blob 정보
+     * @author minyoung
+     * @version 1.0
+     **/
+    FileBlobDto selectOneFileBlob(String blobHash) throws ServiceException;
+
+    /**
+     * 파일 blob 참조수를 일괄 감소한다.
+     *
+     * @param fileBlobList blob 목록 (blobHash, refCnt: 감소 수)
+     * @return int 수정 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int updateFileBlobRefCntDecreaseBatch(List<FileBlobDto> fileBlobList) throws ServiceException;
+
+    /**
+     * 참조가 없는 파일 blob 해시를 조회한다.
+     *
+     * @param blobHashList blob 해시 목록
+     * @return List<String> 참조가 없는 blob 해시 목록
+     * @author minyoung
+     * @version 1.0
+     **/
+    List<String> selectListFileBlobUnreferenced(List<String> blobHashList) throws ServiceException;
+
+    /**
+     * 참조가 없는 파일 blob 정보를 일괄 삭제한다.
+     *
+     * @param blobHashList blob 해시 목록
+     * @return int 삭제 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int deleteFileBlobUnreferencedBatch(List<String> blobHashList) throws ServiceException;
+
+    /**
+     * 지정 경로에 저장된 파일 정보를 fileId 순으로 조회한다. (레이아웃 이관용)
+     *
+     * @param filePath   저장 디렉토리
+     * @param lastFileId 이전 배치의 마지막 fileId
+     * @param limit      조회 건수
+     * @return List<FileDto> 파일 목록
+     * @author minyoung
+     * @version 1.0
+     **/
+    List<FileDto> selectListFileInfoByPath(String filePath, long lastFileId, int limit) throws ServiceException;
+
+    /**
+     * 파일 경로를 일괄 수정한다.
+     *
+     * @param fileList 파일 목록 (fileId, filePath)
+     * @return int 수정 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int updateFileInfoPathBatch(List<FileDto> fileList) throws ServiceException;
+
+    /**
+     * 파일 blob 경로를 일괄 수정한다.
+     *
+     * @param fileBlobList blob 목록 (blobHash, filePath)
+     * @return int 수정 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int updateFileBlobPathBatch(List<FileBlobDto> fileBlobList) throws ServiceException;
+
+    /**
+     * 파일 blob 정보를 잠금 조회한다. (행이 없으면 해당 해시의 신규 등록을 커밋 시까지 차단)
+     *
+     * @param blobHash blob 해시
+     * @return FileBlobDto blob 정보
+     * @author minyoung
+     * @version 1.0
+     **/
+    FileBlobDto selectOneFileBlobForUpdate(String blobHash) throws ServiceException;
+
+    /**
+     * 물리 파일 삭제 대기를 일괄 등록한다.
+     *
+     * @param tombstoneList 삭제 대기 목록 (blobHash, filePath)
+     * @return int 등록 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int insertFileTombstoneBatch(List<FileTombstoneDto> tombstoneList) throws ServiceException;
+
+    /**
+     * 처리 시각이 된 물리 파일 삭제 대기 목록을 tombId 순으로 조회한다.
+     *
+     * @param lastTombId 이전 배치의 마지막 tombId
+     * @param limit      조회 건수
+     * @return List<FileTombstoneDto> 삭제 대기 목록
+     * @author minyoung
+     * @version 1.0
+     **/
+    List<FileTombstoneDto> selectListFileTombstoneDue(long lastTombId, int limit) throws ServiceException;
+
+    /**
+     * 물리 파일 삭제 대기를 잠금 조회한다. (다른 인스턴스가 처리 중이면 null)
+     *
+     * @param tombId 삭제 대기 아이디
+     * @return FileTombstoneDto 삭제 대기 정보
+     * @author minyoung
+     * @version 1.0
+     **/
+    FileTombstoneDto selectOneFileTombstoneForUpdate(long tombId) throws ServiceException;
+
+    /**
+     * 물리 파일 삭제 실패 시 재시도 횟수와 다음 시도 일시를 수정한다.
+     *
+     * @param tombId    삭제 대기 아이디
+     * @param delaySec  다음 시도까지 대기 시간 (초)
+     * @param lastError 실패 사유
+     * @return int 수정 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int updateFileTombstoneRetry(long tombId, long delaySec, String lastError) throws ServiceException;
+
+    /**
+     * 물리 파일 삭제 대기를 삭제한다.
+     *
+     * @param tombId 삭제 대기 아이디
+     * @return int 삭제 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int deleteFileTombstone(long tombId) throws ServiceException;
+
+    /**
+     * 파일 정보 또는 파일 blob 에서 참조 중인 저장 파일명을 조회한다.
+     *
+     * @param fileNmList 저장 파일명 목록
+     * @return List<String> 참조 중인 저장 파일명 목록
+     * @author minyoung
+     * @version 1.0
+     **/
+    List<String> selectListFileNmReferenced(List<String> fileNmList) throws ServiceException;
+
+    /**
+     * 게시글 본문의 컨텐츠 업로드 파일 참조를 등록한다. (이미 등록된 참조는 무시, 컨텐츠 업로드 파일만)
+     *
+     * @param boardId    게시글 아이디
+     * @param fileIdList 파일 아이디 목록
+     * @return int 등록 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int insertBoardContentFile(String boardId, List<String> fileIdList) throws ServiceException;
+
+    /**
+     * 게시글 본문의 컨텐츠 업로드 파일 참조를 삭제한다.
+     *
+     * @param boardIdList    게시글 아이디 목록
+     * @param keepFileIdList 유지할 파일 아이디 목록 (null 이면 전체 삭제)
+     * @return int 삭제 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int deleteBoardContentFile(List<String> boardIdList, List<String> keepFileIdList) throws ServiceException;
+
+    /**
+     * 게시글에 연결되지 않은 컨텐츠 업로드 파일 정보를 fileId 순으로 조회한다.
+     *
+     * @param lastFileId 이전 배치의 마지막 fileId
+     * @param graceHours 유예 시간 (등록 후 경과 시간)
+     * @param limit      조회 건수
+     * @return List<FileDto> 파일 목록
+     * @author minyoung
+     * @version 1.0
+     **/
+    List<FileDto> selectListFileInfoUnattached(long lastFileId, int graceHours, int limit) throws ServiceException;
+
+    /**
+     * 삭제 직전 게시글 참조가 여전히 없는지 확인하며 파일 정보를 잠근다. (참조 등록과 경합 방지)
+     *
+     * @param fileIdList 파일 아이디 목록
+     * @return List<FileDto> 참조가 없는 파일 목록
+     * @author minyoung
+     * @version 1.0
+     **/
+    List<FileDto> selectListFileInfoUnattachedForUpdate(List<String> fileIdList) throws ServiceException;
+
+    /**
+     * 분할 업로드를 등록한다.
+     *
+     * @param fileUploadDto FileUploadDto 객체
+     * @return int 등록 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int insertFileUpload(FileUploadDto fileUploadDto) throws ServiceException;
+
+    /**
+     * 분할 업로드를 조회한다.
+     *
+     * @param uploadId 업로드 아이디
+     * @return FileUploadDto 분할 업로드 정보
+     * @author minyoung
+     * @version 1.0
+     **/
+    FileUploadDto selectOneFileUpload(String uploadId) throws ServiceException;
+
+    /**
+     * 사용자의 수신 중 분할 업로드 건수와 예약 크기 합계를 조회한다.
+     *
+     * @param regId 업로드 사용자 아이디
+     * @return Map<String, Object> uploadCnt, reservedSize
+     * @author minyoung
+     * @version 1.0
+     **/
+    Map<String, Object> selectOneFileUploadUsage(String regId) throws ServiceException;
+
+    /**
+     * 분할 업로드를 잠금 조회한다.
+     *
+     * @param uploadId 업로드 아이디
+     * @return FileUploadDto 분할 업로드 정보
+     * @author minyoung
+     * @version 1.0
+     **/
+    FileUploadDto selectOneFileUploadForUpdate(String uploadId) throws ServiceException;
+
+    /**
+     * 분할 업로드 구간 수신 시작을 표시한다. (수신 중 상태일 때만)
+     *
+     * @param uploadId 업로드 아이디
+     * @return int 수정 건수 (0 이면 완료 처리 중이거나 완료됨)
+     * @author minyoung
+     * @version 1.0
+     **/
+    int updateFileUploadWriteStart(String uploadId) throws ServiceException;
+
+    /**
+     * 분할 업로드 구간 수신 종료를 표시한다.
+     *
+     * @param uploadId 업로드 아이디
+     * @return int 수정 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int updateFileUploadWriteEnd(String uploadId) throws ServiceException;
+
+    /**
+     * 분할 업로드를 완료 처리 중(COMPLETING)으로 전환한다. (수신 중인 구간이 없을 때만)
+     *
+     * @param uploadId      업로드 아이디
+     * @param writeLeaseSec 수신 중 표시 유효 시간 (초)
+     * @return int 수정 건수 (0 이면 수신 중인 구간이 있음)
+     * @author minyoung
+     * @version 1.0
+     **/
+    int updateFileUploadCompleting(String uploadId, long writeLeaseSec) throws ServiceException;
+
+    /**
+     * 완료 처리 중인 분할 업로드를 수신 중 상태로 되돌린다.
+     *
+     * @param uploadId 업로드 아이디
+     * @return int 수정 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int updateFileUploadCompletingCancel(String uploadId) throws ServiceException;
+
+    /**
+     * 분할 업로드를 완료 처리한다.
+     *
+     * @param uploadId 업로드 아이디
+     * @param fileId   등록된 파일 아이디
+     * @return int 수정 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int updateFileUploadComplete(String uploadId, String fileId) throws ServiceException;
+
+    /**
+     * 분할 업로드 수신 구간을 등록한다.
+     *
+     * @param fileUploadRangeDto FileUploadRangeDto 객체
+     * @return int 등록 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int insertFileUploadRange(FileUploadRangeDto fileUploadRangeDto) throws ServiceException;
+
+    /**
+     * 분할 업로드 마지막 수신 일시를 수정한다.
+     *
+     * @param uploadId 업로드 아이디
+     * @return int 수정 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int updateFileUploadTouch(String uploadId) throws ServiceException;
+
+    /**
+     * 분할 업로드 수신 구간 목록을 시작 위치 순으로 조회한다.
+     *
+     * @param uploadId 업로드 아이디
+     * @return List<FileUploadRangeDto> 수신 구간 목록
+     * @author minyoung
+     * @version 1.0
+     **/
+    List<FileUploadRangeDto> selectListFileUploadRange(String uploadId) throws ServiceException;
+
+    /**
+     * 분할 업로드 수신 구간을 삭제한다.
+     *
+     * @param uploadId 업로드 아이디
+     * @return int 삭제 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int deleteFileUploadRange(String uploadId) throws ServiceException;
+
+    /**
+     * 분할 업로드를 삭제한다.
+     *
+     * @param uploadId 업로드 아이디
+     * @return int 삭제 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int deleteFileUpload(String uploadId) throws ServiceException;
+
+    /**
+     * 마지막 수정 후 유예 시간이 지난 분할 업로드를 조회한다.
+     *
+     * @param graceHours 유예 시간
+     * @param limit      조회 건수
+     * @return List<FileUploadDto> 분할 업로드 목록
+     * @author minyoung
+     * @version 1.0
+     **/
+    List<FileUploadDto> selectListFileUploadExpired(int graceHours, int limit) throws ServiceException;
+
+    /**
+     * 파일 정보를 잠금 조회한다. (파생 파일 등록 중 원본 삭제와 경합 방지)
+     *
+     * @param fileId 파일 아이디
+     * @return FileDto 파일 정보 (없으면 null)
+     * @author minyoung
+     * @version 1.0
+     **/
+    FileDto selectOneFileInfoForUpdate(String fileId) throws ServiceException;
+
+    /**
+     * 원본 파일 목록의 영상 파생 파일을 조회한다.
+     *
+     * @param origFileIdList 원본 파일 아이디 목록
+     * @param derivTypeList  파생 파일 종류 목록 (null 이면 전체)
+     * @return List<FileDto> 파생 파일 목록
+     * @author minyoung
+     * @version 1.0
+     **/
+    List<FileDto> selectListFileVideoDerivative(List<String> origFileIdList, List<String> derivTypeList) throws ServiceException;
+
+    /**
+     * 원본 파일의 영상 파생 파일을 저장 파일명으로 조회한다.
+     *
+     * @param origFileId 원본 파일 아이디
+     * @param fileNm     저장 파일명
+     * @return FileDto 파생 파일 (없으면 null)
+     * @author minyoung
+     * @version 1.0
+     **/
+    FileDto selectOneFileVideoDerivative(String origFileId, String fileNm) throws ServiceException;
+
+    /**
+     * 영상 후처리 작업을 일괄 등록한다.
+     *
+     * @param fileIdList 원본 파일 아이디 목록
+     * @return int 등록 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int insertFileVideoBatch(List<String> fileIdList) throws ServiceException;
+
+    /**
+     * 영상 후처리 작업을 조회한다.
+     *
+     * @param fileId 원본 파일 아이디
+     * @return FileVideoDto 작업 정보 (없으면 null)
+     * @author minyoung
+     * @version 1.0
+     **/
+    FileVideoDto selectOneFileVideo(String fileId) throws ServiceException;
+
+    /**
+     * 처리 시각이 된 대기 작업을 file_id 순으로 조회한다.
+     *
+     * @param lastFileId 이전 조회 마지막 파일 아이디
+     * @param limit      조회 건수
+     * @return List<FileVideoDto> 작업 목록
+     * @author minyoung
+     * @version 1.0
+     **/
+    List<FileVideoDto> selectListFileVideoDue(long lastFileId, int limit) throws ServiceException;
+
+    /**
+     * 대기 작업을 처리 중으로 변경한다. (다른 스레드/인스턴스가 먼저 가져갔으면 0)
+     *
+     * @param fileId 원본 파일 아이디
+     * @return int 변경 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int updateFileVideoClaim(String fileId) throws ServiceException;
+
+    /**
+     * 작업 상태를 변경한다.
+     *
+     * @param fileId    원본 파일 아이디
+     * @param status    상태
+     * @param lastError 실패 사유 (없으면 null)
+     * @return int 변경 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int updateFileVideoStatus(String fileId, String status, String lastError) throws ServiceException;
+
+    /**
+     * 작업을 재시도 대기로 변경한다.
+     *
+     * @param fileId    원본 파일 아이디
+     * @param delaySec  다음 시도까지 대기 시간 (초)
+     * @param lastError 실패 사유
+     * @return int 변경 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int updateFileVideoRetry(String fileId, long delaySec, String lastError) throws ServiceException;
+
+    /**
+     * 처리 중 상태로 오래 남은 작업(프로세스 중단 등)을 대기로 되돌린다.
+     *
+     * @param staleMinutes 처리 중 유지 허용 시간 (분)
+     * @return int 변경 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int updateFileVideoStaleReset(long staleMinutes) throws ServiceException;
+
+    /**
+     * 영상 후처리 작업을 일괄 삭제한다.
+     *
+     * @param fileIdList 원본 파일 아이디 목록
+     * @return int 삭제 건수
+     * @author minyoung
+     * @version 1.0
+     **/
+    int deleteFileVideoByIdList(List<String> fileIdList) throws ServiceException;
+}
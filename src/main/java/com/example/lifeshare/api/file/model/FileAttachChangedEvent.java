@@ -0,0 +1,19 @@
+package com.example.lifeshare.api.file.model;
+
+import java.util.List;
+
+/**
+ * 게시글 첨부파일(type_nm = 'community') 등록/삭제 이벤트
+ * - 파일 업로드/삭제 트랜잭션 안에서 발행, 첨부파일을 포함하는 캐시에서 대상 게시글 무효화
+ *
+ * @param targIdList 첨부파일이 변경된 대상 아이디 목록
+ * @author minyoung
+ * @version 1.0.0
+ **/
+public record FileAttachChangedEvent(List<String> targIdList) {
+
+    /**
+     * 게시글 첨부파일 유형
+     */
+    public static final String TYPE_NM = "community";
+}
@@ -0,0 +1,45 @@
+package com.example.lifeshare.api.file.model;
+
+import lombok.Data;
+
+/**
+ * 파일 blob 정보 DTO
+ * - 내용(SHA-256) 기준으로 저장된 물리 파일, 여러 파일 정보(lf_file_list)가 공유
+ *
+ * @author minyoung
+ * @version 1.0.0
+ **/
+@Data
+public class FileBlobDto {
+
+    /**
+     * blob 해시 (SHA-256)
+     */
+    private String blobHash;
+
+    /**
+     * 파일 경로
+     */
+    private String filePath;
+
+    /**
+     * 파일 명
+     */
+    private String fileNm;
+
+    /**
+     * 파일 크기
+     */
+    private Long fileSize;
+
+    /**
+     * 참조 수
+     */
+    private Integer refCnt;
+
+    /**
+     * 등록일자
+     */
+    private String regDt;
+
+}
@@ -56,4 +56,19 @@ public class FileDto {
      */
     private String regDt;
 
+    /**
+     * 파일 크기 (업로드 시 계산)
+     */
+    private Long fileSize;
+
+    /**
+     * 파일 SHA-256 해시 (lf_file_blob 참조, blob 도입 이전 파일은 null)
+     */
+    private String fileHash;
+
+    /**
+     * 영상 파생 파일 종류 (POSTER / HLS / HLS_SEGMENT, 원본 파일은 null)
+     */
+    private String derivType;
+
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.example.lifeshare.api.file.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 물리 파일 삭제 대기 정보 DTO
+ * - 파일 정보 삭제 트랜잭션에서 등록, 커밋 후 백그라운드에서 실제 파일 삭제
+ *
+ * @author minyoung
+ * @version 1.0.0
+ **/
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class FileTombstoneDto {
+
+    /**
+     * 삭제 대기 아이디
+     */
+    private Long tombId;
+
+    /**
+     * blob 해시 (blob 도입 이전 파일은 null)
+     */
+    private String blobHash;
+
+    /**
+     * 삭제 대상 파일 전체 경로
+     */
+    private String filePath;
+
+    /**
+     * 재시도 횟수
+     */
+    private Integer retryCnt;
+
+    /**
+     * 다음 시도 일시
+     */
+    private String nextTryDt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    private String lastError;
+
+    /**
+     * 등록일자
+     */
+    private String regDt;
+
+}
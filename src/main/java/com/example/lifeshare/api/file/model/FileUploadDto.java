@@ -0,0 +1,91 @@
+package com.example.lifeshare.api.file.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분할(이어받기) 업로드 정보 DTO
+ * - 시작 시 전체 크기의 파일을 미리 할당하고, 구간별로 수신한 내용을 해당 위치에 기록
+ *
+ * @author minyoung
+ * @version 1.0.0
+ **/
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class FileUploadDto {
+
+    /**
+     * 업로드 아이디
+     */
+    private String uploadId;
+
+    /**
+     * 대상 아이디
+     */
+    private String targId;
+
+    /**
+     * 타입 명
+     */
+    private String typeNm;
+
+    /**
+     * 비디오 여부
+     */
+    private String videoYn;
+
+    /**
+     * 실제 파일 명
+     */
+    private String realFileNm;
+
+    /**
+     * 컨텐츠 타입
+     */
+    private String contentType;
+
+    /**
+     * 전체 파일 크기
+     */
+    private Long fileSize;
+
+    /**
+     * 저장 디렉토리 (구분자로 끝남)
+     */
+    private String uploadDir;
+
+    /**
+     * 수신 중 파일 전체 경로
+     */
+    private String partPath;
+
+    /**
+     * 상태 (UPLOADING / COMPLETING / COMPLETE)
+     */
+    private String status;
+
+    /**
+     * 완료 후 등록된 파일 아이디
+     */
+    private String fileId;
+
+    /**
+     * 업로드 사용자 아이디 (수신/완료/취소는 같은 사용자만 가능)
+     */
+    private String regId;
+
+    /**
+     * 등록일자
+     */
+    private String regDt;
+
+    /**
+     * 수정일자 (마지막 수신 일시)
+     */
+    private String updDt;
+
+}
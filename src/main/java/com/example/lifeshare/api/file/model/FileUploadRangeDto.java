@@ -0,0 +1,35 @@
+package com.example.lifeshare.api.file.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분할 업로드 수신 구간 DTO
+ *
+ * @author minyoung
+ * @version 1.0.0
+ **/
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class FileUploadRangeDto {
+
+    /**
+     * 업로드 아이디
+     */
+    private String uploadId;
+
+    /**
+     * 구간 시작 위치
+     */
+    private Long rangeStart;
+
+    /**
+     * 구간 끝 위치 (미포함)
+     */
+    private Long rangeEnd;
+
+}
@@ -0,0 +1,50 @@
+package com.example.lifeshare.api.file.model;
+
+import lombok.Data;
+
+/**
+ * 영상 후처리 작업 DTO
+ * - 영상 업로드 커밋 후 등록, 포스터/HLS 생성 완료 시 DONE
+ *
+ * @author minyoung
+ * @version 1.0.0
+ **/
+@Data
+public class FileVideoDto {
+
+    /**
+     * 원본 파일 아이디
+     */
+    private String fileId;
+
+    /**
+     * 상태 (PENDING / RUNNING / DONE / FAILED / SKIPPED)
+     */
+    private String status;
+
+    /**
+     * 재시도 횟수
+     */
+    private Integer retryCnt;
+
+    /**
+     * 다음 시도 일시
+     */
+    private String nextTryDt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    private String lastError;
+
+    /**
+     * 등록일자
+     */
+    private String regDt;
+
+    /**
+     * 수정일자
+     */
+    private String updDt;
+
+}
@@ -0,0 +1,73 @@
+package com.example.lifeshare.api.file.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.file.Path;
+
+/**
+ * 임시 저장(.tmp)된 업로드 파일 정보 DTO
+ * - 디스크 기록이 끝나고 메타 등록/최종 이동을 기다리는 상태
+ *
+ * @author minyoung
+ * @version 1.0.0
+ **/
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class StagedFileDto {
+
+    /**
+     * 원본 파일 명
+     */
+    private String originalFileName;
+
+    /**
+     * 저장 파일 명
+     */
+    private String storedFileName;
+
+    /**
+     * 컨텐츠 타입
+     */
+    private String contentType;
+
+    /**
+     * 저장 디렉토리 (구분자로 끝남)
+     */
+    private String uploadDir;
+
+    /**
+     * 임시 파일 경로
+     */
+    private Path tmpPath;
+
+    /**
+     * 최종 파일 경로
+     */
+    private Path finalPath;
+
+    /**
+     * 파일 크기
+     */
+    private Long fileSize;
+
+    /**
+     * 파일 SHA-256 해시
+     */
+    private String fileHash;
+
+    /**
+     * 임시파일 기록 소요시간 (ns)
+     */
+    private long transferNanos;
+
+    /**
+     * 트랜잭션 전에 원격 저장소에 올린 blob 전체 경로 (올리지 않았으면 null)
+     */
+    private String pushedPath;
+
+}
@@ -0,0 +1,195 @@
+package com.example.lifeshare.api.file.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 소용량 파일 내용 캐시 (fileId 기준, LRU)
+ * - 임계 크기 이하 파일만 direct ByteBuffer(off-heap) 에 적재
+ * - 전체 byte 상한 초과 시 가장 오래 사용되지 않은 항목부터 제거
+ * - 제거된 버퍼의 메모리는 GC 시 해제되므로 상한은 -XX:MaxDirectMemorySize 보다 작게 설정
+ *
+ * @author minyoung
+ * @version 1.0
+ **/
+@Slf4j
+@Component
+public class FileByteCache {
+
+    /**
+     * 캐시 사용 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 적재 대상 파일 최대 크기 (byte)
+     */
+    private final long maxFileSize;
+
+    /**
+     * 전체 적재 최대 크기 (byte)
+     */
+    private final long maxTotalSize;
+
+    /**
+     * 캐시 항목 (access-order)
+     */
+    private final LinkedHashMap<String, CachedFile> cache = new LinkedHashMap<>(256, 0.75f, true);
+
+    private long totalSize;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    public FileByteCache(@Value("${file.byte-cache.enabled:false}") boolean enabled,
+                         @Value("${file.byte-cache.max-file-size:262144}") long maxFileSize,
+                         @Value("${file.byte-cache.max-total-size:67108864}") long maxTotalSize) {
+        this.enabled = enabled;
+        this.maxFileSize = Math.min(maxFileSize, Integer.MAX_VALUE);
+        this.maxTotalSize = maxTotalSize;
+    }
+
+    /**
+     * 캐시 적재 대상 여부
+     */
+    public boolean accepts(long fileSize) {
+        return enabled && fileSize <= maxFileSize && fileSize <= maxTotalSize;
+    }
+
+    /**
+     * 캐시 조회 (없으면 null)
+     */
+    public synchronized CachedFile get(String fileId) {
+        if (!enabled || fileId == null) {
+            return null;
+        }
+        CachedFile cachedFile = cache.get(fileId);
+        if (cachedFile == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return cachedFile;
+    }
+
+    /**
+     * 파일을 읽어 캐시에 적재한다. (디스크 읽기는 잠금 밖에서 수행)
+     */
+    public CachedFile load(String fileId, Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return load(fileId, channel, channel.size(), Files.getLastModifiedTime(filePath).toMillis());
+        }
+    }
+
+    /**
+     * 채널(원격 저장소 스트림 등)에서 size 만큼 읽어 캐시에 적재한다.
+     */
+    public CachedFile load(String fileId, ReadableByteChannel source, long size, long lastModified) throws IOException {
+        if (!accepts(size)) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+        while (buffer.hasRemaining()) {
+            if (source.read(buffer) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        CachedFile cachedFile = new CachedFile(buffer.asReadOnlyBuffer(), lastModified);
+        put(fileId, cachedFile);
+        return cachedFile;
+    }
+
+    /**
+     * 캐시 무효화
+     */
+    public synchronized void invalidate(Collection<String> fileIdList) {
+        if (!enabled) {
+            return;
+        }
+        for (String fileId : fileIdList) {
+            if (fileId == null) {
+                continue;
+            }
+            CachedFile removed = cache.remove(fileId);
+            if (removed != null) {
+                totalSize -= removed.size();
+            }
+        }
+    }
+
+    /**
+     * 적재 크기 (byte)
+     */
+    public synchronized long getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("enabled", enabled);
+        resultMap.put("size", cache.size());
+        resultMap.put("totalBytes", totalSize);
+        resultMap.put("maxTotalBytes", maxTotalSize);
+        resultMap.put("hitCount", hitCount);
+        resultMap.put("missCount", missCount);
+        resultMap.put("evictionCount", evictionCount);
+        return resultMap;
+    }
+
+    /**
+     * 적재 후 상한 초과분 제거
+     */
+    private synchronized void put(String fileId, CachedFile cachedFile) {
+        CachedFile previous = cache.put(fileId, cachedFile);
+        if (previous != null) {
+            totalSize -= previous.size();
+        }
+        totalSize += cachedFile.size();
+
+        Iterator<Map.Entry<String, CachedFile>> iterator = cache.entrySet().iterator();
+        while (totalSize > maxTotalSize && iterator.hasNext()) {
+            Map.Entry<String, CachedFile> eldest = iterator.next();
+            totalSize -= eldest.getValue().size();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * 캐시 항목 - 읽기 전용 버퍼와 파일 수정시각
+     */
+    public record CachedFile(ByteBuffer data, long lastModified) {
+
+        public long size() {
+            return data.remaining();
+        }
+
+        /**
+         * 요청별 독립 position/limit 을 갖는 버퍼
+         */
+        public ByteBuffer duplicate() {
+            return data.duplicate();
+        }
+    }
+}
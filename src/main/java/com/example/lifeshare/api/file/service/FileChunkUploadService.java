@@ -0,0 +1,602 @@
+package com.example.lifeshare.api.file.service;
+
+import com.example.lifeshare.api.file.mapper.FileMapper;
+import com.example.lifeshare.api.file.model.FileDto;
+import com.example.lifeshare.api.file.model.FileUploadDto;
+import com.example.lifeshare.api.file.model.FileUploadRangeDto;
+import com.example.lifeshare.api.file.model.StagedFileDto;
+import com.example.lifeshare.cmm.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 분할(이어받기) 업로드 서비스
+ * - init : 전체 크기의 수신 파일(.part)을 미리 할당하고 업로드 아이디 발급
+ * - chunk : offset 위치에 FileChannel 위치 지정 기록, 수신 구간을 lf_file_upload_range 에 등록
+ * - status : 수신 구간 조회 (연결이 끊긴 경우 누락 구간부터 재전송)
+ * - complete : 전체 구간 수신 확인 후 해시 계산, 기존 업로드와 같은 경로(saveStagedFiles)로 등록
+ * - 구간 수신은 업로드 행에 수신 중(write_cnt)을 표시한 뒤 기록, 완료 처리는 수신 중인 구간이 없을 때 COMPLETING 으로 전환 후 해시 계산
+ *   (해시 계산 이후 기록되어 다른 내용이 같은 해시의 blob 으로 등록되는 것을 방지)
+ * - 시작한 사용자만 수신/조회/완료/취소 가능, 사용자별 동시 업로드 건수와 예약 크기 제한
+ *
+ * @author minyoung
+ * @version 1.0
+ **/
+@Slf4j
+@Service
+public class FileChunkUploadService {
+
+    /**
+     * 상태 - 수신 중
+     */
+    private static final String STATUS_UPLOADING = "UPLOADING";
+
+    /**
+     * 상태 - 완료 처리 중 (구간 수신 불가)
+     */
+    private static final String STATUS_COMPLETING = "COMPLETING";
+
+    /**
+     * 상태 - 완료
+     */
+    private static final String STATUS_COMPLETE = "COMPLETE";
+
+    /**
+     * 수신 파일 확장자
+     */
+    private static final String PART_SUFFIX = ".part";
+
+    /**
+     * 해시 계산 버퍼 크기
+     */
+    private static final int DIGEST_BUFFER_SIZE = 1024 * 1024;
+
+    @Value("${file.community-path}")
+    private String communityPath;
+
+    /**
+     * 분할 업로드 최대 파일 크기 (byte)
+     */
+    @Value("${file.upload.chunked.max-file-size:10737418240}")
+    private long maxFileSize;
+
+    /**
+     * 구간(chunk) 최대 크기 (byte)
+     */
+    @Value("${file.upload.chunked.max-chunk-size:67108864}")
+    private long maxChunkSize;
+
+    /**
+     * 권장 구간 크기 (byte)
+     */
+    @Value("${file.upload.chunked.chunk-size:8388608}")
+    private long chunkSize;
+
+    /**
+     * 사용자별 동시 수신 중 업로드 최대 건수
+     */
+    @Value("${file.upload.chunked.max-open-per-user:5}")
+    private int maxOpenPerUser;
+
+    /**
+     * 사용자별 예약(미리 할당) 크기 합계 최대 (byte)
+     */
+    @Value("${file.upload.chunked.max-reserved-per-user:21474836480}")
+    private long maxReservedPerUser;
+
+    /**
+     * 구간 수신 중 표시 유효 시간 (초) - 수신 중 종료되어 해제되지 않은 표시로 완료 처리가 막히지 않도록 함
+     */
+    @Value("${file.upload.chunked.write-lease-sec:900}")
+    private long writeLeaseSec;
+
+    private final FileMapper fileMapper;
+
+    private final FileService fileService;
+
+    private final FileMetrics fileMetrics;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public FileChunkUploadService(FileMapper fileMapper,
+                                  FileService fileService,
+                                  FileMetrics fileMetrics,
+                                  TransactionTemplate transactionTemplate) {
+        this.fileMapper = fileMapper;
+        this.fileService = fileService;
+        this.fileMetrics = fileMetrics;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 분할 업로드 시작 - 수신 파일 미리 할당
+     */
+    public Map<String, Object> reqPostChunkUploadInit(FileUploadDto fileUploadDto) throws ServiceException {
+        if (fileUploadDto.getRealFileNm() == null || fileUploadDto.getRealFileNm().isBlank()) {
+            throw new ServiceException("파일명이 없습니다.");
+        }
+        if (fileUploadDto.getFileSize() == null || fileUploadDto.getFileSize() <= 0 || fileUploadDto.getFileSize() > maxFileSize) {
+            throw new ServiceException("파일 크기가 올바르지 않습니다.");
+        }
+        String regId = currentUserId();
+        checkUsage(regId, fileUploadDto.getFileSize());
+
+        String originalFileName = Paths.get(fileUploadDto.getRealFileNm()).getFileName().toString();
+        StagedFileDto stagedFile = fileService.newStagedFile(originalFileName, fileUploadDto.getContentType(), communityPath);
+        Path partPath = stagedFile.getFinalPath().resolveSibling(stagedFile.getStoredFileName() + PART_SUFFIX);
+
+        fileUploadDto.setUploadId(UUID.randomUUID().toString().replace("-", ""));
+        fileUploadDto.setRealFileNm(originalFileName);
+        fileUploadDto.setTargId(fileUploadDto.getTargId() == null ? "0" : fileUploadDto.getTargId());
+        fileUploadDto.setTypeNm(fileUploadDto.getTypeNm() == null ? "" : fileUploadDto.getTypeNm());
+        fileUploadDto.setVideoYn(fileUploadDto.getVideoYn() == null ? "N" : fileUploadDto.getVideoYn());
+        fileUploadDto.setUploadDir(stagedFile.getUploadDir());
+        fileUploadDto.setPartPath(partPath.toString());
+        fileUploadDto.setRegId(regId);
+
+        try (RandomAccessFile file = new RandomAccessFile(partPath.toFile(), "rw")) {
+            // 전체 크기 미리 할당 (대부분의 파일시스템에서 sparse 파일)
+            file.setLength(fileUploadDto.getFileSize());
+        } catch (IOException e) {
+            log.error("chunk upload init failed: {}", partPath, e);
+            throw new ServiceException("파일 저장 실패: " + e.getMessage());
+        }
+
+        try {
+            fileMapper.insertFileUpload(fileUploadDto);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            deleteQuietly(partPath);
+            throw new ServiceException(e.getMessage());
+        }
+
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("uploadId", fileUploadDto.getUploadId());
+        resultMap.put("fileSize", fileUploadDto.getFileSize());
+        resultMap.put("chunkSize", chunkSize);
+        resultMap.put("ranges", new ArrayList<>());
+        return resultMap;
+    }
+
+    /**
+     * 구간 수신 - offset 위치부터 요청 본문을 기록
+     * - 기록 전 수신 중 표시 (완료 처리 중/완료된 업로드는 거부), 구간 등록 후 해제
+     *
+     * @param uploadId      업로드 아이디
+     * @param offset        기록 시작 위치
+     * @param contentLength 요청 본문 크기 (-1 이면 알 수 없음)
+     * @param inputStream   요청 본문
+     */
+    public Map<String, Object> reqPutChunk(String uploadId,
+                                           long offset,
+                                           long contentLength,
+                                           InputStream inputStream) throws ServiceException {
+        FileUploadDto fileUploadDto = getUpload(uploadId);
+        if (!STATUS_UPLOADING.equals(fileUploadDto.getStatus())) {
+            throw new ServiceException("이미 완료된 업로드입니다.");
+        }
+        long fileSize = fileUploadDto.getFileSize();
+        if (offset < 0 || offset >= fileSize) {
+            throw new ServiceException("offset 이 올바르지 않습니다.");
+        }
+        long maxCount = Math.min(maxChunkSize, fileSize - offset);
+        if (contentLength > maxCount) {
+            throw new ServiceException("구간 크기가 올바르지 않습니다.");
+        }
+        long count = contentLength >= 0 ? contentLength : maxCount;
+
+        Path partPath = Paths.get(fileUploadDto.getPartPath());
+        if (!Files.isRegularFile(partPath)) {
+            throw new ServiceException("만료된 업로드입니다.");
+        }
+
+        try {
+            if (fileMapper.updateFileUploadWriteStart(uploadId) == 0) {
+                throw new ServiceException("이미 완료된 업로드입니다.");
+            }
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        }
+        try {
+            return writeChunk(fileUploadDto, partPath, offset, count, inputStream);
+        } finally {
+            try {
+                fileMapper.updateFileUploadWriteEnd(uploadId);
+            } catch (DataAccessException e) {
+                // 해제되지 않은 표시는 유효 시간(write-lease-sec) 후 무시됨
+                log.warn("chunk write end failed: uploadId={}", uploadId, e);
+            }
+        }
+    }
+
+    /**
+     * 구간 기록 후 수신 구간 등록
+     */
+    private Map<String, Object> writeChunk(FileUploadDto fileUploadDto,
+                                           Path partPath,
+                                           long offset,
+                                           long count,
+                                           InputStream inputStream) throws ServiceException {
+        String uploadId = fileUploadDto.getUploadId();
+        long startTime = System.nanoTime();
+        long received = 0;
+        RequestBodyChannel source = new RequestBodyChannel(Channels.newChannel(inputStream));
+        try (FileChannel channel = FileChannel.open(partPath, StandardOpenOption.WRITE)) {
+            // 위치 지정 기록 - 같은 업로드의 다른 구간을 동시에 받아도 서로 영향 없음
+            try {
+                while (received < count) {
+                    long transferred = channel.transferFrom(source, offset + received, count - received);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    received += transferred;
+                }
+            } catch (IOException e) {
+                if (!source.isReadFailed()) {
+                    throw e;
+                }
+                // 요청 본문 수신이 끊긴 경우 - 끊기기 전까지 기록된 부분은 구간으로 등록하고 이어서 받도록 함
+                log.warn("chunk receive interrupted: uploadId={}, offset={}, received={}", uploadId, offset, received);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // 디스크 기록 실패 - 기록 여부를 알 수 없으므로 구간을 등록하지 않음
+            log.error("chunk write failed: uploadId={}, offset={}", uploadId, offset, e);
+            throw new ServiceException("파일 저장 실패: " + e.getMessage());
+        }
+        fileMetrics.recordUploadPhase(FileMetrics.PHASE_TRANSFER, fileUploadDto.getTypeNm(), fileUploadDto.getVideoYn(), System.nanoTime() - startTime);
+
+        try {
+            if (received > 0) {
+                fileMapper.insertFileUploadRange(FileUploadRangeDto.builder()
+                        .uploadId(uploadId)
+                        .rangeStart(offset)
+                        .rangeEnd(offset + received)
+                        .build());
+                fileMapper.updateFileUploadTouch(uploadId);
+            }
+            Map<String, Object> resultMap = new HashMap<>();
+            resultMap.put("uploadId", uploadId);
+            resultMap.put("received", received);
+            resultMap.put("ranges", mergeRanges(fileMapper.selectListFileUploadRange(uploadId)));
+            return resultMap;
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        }
+    }
+
+    /**
+     * 수신 상태 조회
+     */
+    public Map<String, Object> reqGetChunkUploadStatus(String uploadId) throws ServiceException {
+        FileUploadDto fileUploadDto = getUpload(uploadId);
+        try {
+            Map<String, Object> resultMap = new HashMap<>();
+            resultMap.put("uploadId", uploadId);
+            resultMap.put("status", fileUploadDto.getStatus());
+            resultMap.put("fileSize", fileUploadDto.getFileSize());
+            resultMap.put("chunkSize", chunkSize);
+            resultMap.put("ranges", mergeRanges(fileMapper.selectListFileUploadRange(uploadId)));
+            if (fileUploadDto.getFileId() != null) {
+                resultMap.put("url", "/api/file?fileId=" + fileUploadDto.getFileId());
+            }
+            return resultMap;
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        }
+    }
+
+    /**
+     * 업로드 완료 - 전체 구간 수신 확인 후 파일 정보 등록 (이미 완료된 경우 기존 결과 반환)
+     * - 수신 중인 구간이 없을 때 COMPLETING 으로 전환한 뒤 해시 계산 (이후 구간 수신 거부)
+     * - 등록 실패 시 UPLOADING 으로 되돌려 다시 완료 요청 가능
+     */
+    public Map<String, Object> reqPostChunkUploadComplete(String uploadId) throws ServiceException {
+        FileUploadDto fileUploadDto = getUpload(uploadId);
+        if (STATUS_COMPLETE.equals(fileUploadDto.getStatus())) {
+            return completeResult(fileUploadDto, fileUploadDto.getFileId(), null);
+        }
+
+        String claimedStatus;
+        try {
+            claimedStatus = transactionTemplate.execute(status -> {
+                FileUploadDto locked = fileMapper.selectOneFileUploadForUpdate(uploadId);
+                if (locked == null || !STATUS_UPLOADING.equals(locked.getStatus())) {
+                    return locked == null ? null : locked.getStatus();
+                }
+                return fileMapper.updateFileUploadCompleting(uploadId, writeLeaseSec) > 0 ? STATUS_COMPLETING : STATUS_UPLOADING;
+            });
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        }
+        if (STATUS_UPLOADING.equals(claimedStatus)) {
+            throw new ServiceException("수신 중인 구간이 있습니다.");
+        }
+        if (!STATUS_COMPLETING.equals(claimedStatus)) {
+            // 동시에 다른 요청이 완료 처리 중이거나 완료함
+            return completeResult(getUpload(uploadId), null, null);
+        }
+
+        StagedFileDto stagedFile;
+        try {
+            List<long[]> ranges = mergeRanges(fileMapper.selectListFileUploadRange(uploadId));
+            if (ranges.size() != 1 || ranges.get(0)[0] != 0 || ranges.get(0)[1] != fileUploadDto.getFileSize()) {
+                throw new ServiceException("수신되지 않은 구간이 있습니다.");
+            }
+            Path partPath = Paths.get(fileUploadDto.getPartPath());
+            stagedFile = StagedFileDto.builder()
+                    .originalFileName(fileUploadDto.getRealFileNm())
+                    .storedFileName(partPath.getFileName().toString())
+                    .contentType(fileUploadDto.getContentType())
+                    .uploadDir(fileUploadDto.getUploadDir())
+                    .tmpPath(partPath)
+                    .fileSize(fileUploadDto.getFileSize())
+                    .fileHash(digest(partPath))
+                    .build();
+            // 원격 저장소 업로드는 완료 처리 트랜잭션(FOR UPDATE) 밖에서 수행
+            fileService.pushStagedFiles(List.of(stagedFile));
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            cancelCompleting(uploadId);
+            throw new ServiceException(e.getMessage());
+        } catch (ServiceException e) {
+            cancelCompleting(uploadId);
+            throw e;
+        }
+
+        try {
+            FileDto fileDto = transactionTemplate.execute(status -> {
+                FileUploadDto locked = fileMapper.selectOneFileUploadForUpdate(uploadId);
+                if (locked == null || !STATUS_COMPLETING.equals(locked.getStatus())) {
+                    // 완료 처리 중 만료 정리됨
+                    return null;
+                }
+                List<FileDto> fileList = fileService.saveStagedFiles(List.of(stagedFile),
+                        fileUploadDto.getTargId(), fileUploadDto.getVideoYn(), fileUploadDto.getTypeNm());
+                fileMapper.updateFileUploadComplete(uploadId, fileList.get(0).getFileId());
+                fileMapper.deleteFileUploadRange(uploadId);
+                return fileList.get(0);
+            });
+            if (fileDto == null) {
+                fileService.discardPushedFiles(List.of(stagedFile));
+                return completeResult(getUpload(uploadId), null, null);
+            }
+            return completeResult(fileUploadDto, fileDto.getFileId(), fileDto);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            fileService.discardPushedFiles(List.of(stagedFile));
+            cancelCompleting(uploadId);
+            throw new ServiceException(e.getMessage());
+        } catch (ServiceException e) {
+            fileService.discardPushedFiles(List.of(stagedFile));
+            cancelCompleting(uploadId);
+            throw e;
+        }
+    }
+
+    /**
+     * 완료 처리 실패 시 수신 중 상태로 되돌림 (실패해도 만료 정리 대상이므로 로그만 남김)
+     */
+    private void cancelCompleting(String uploadId) {
+        try {
+            fileMapper.updateFileUploadCompletingCancel(uploadId);
+        } catch (DataAccessException e) {
+            log.warn("chunk upload completing cancel failed: uploadId={}", uploadId, e);
+        }
+    }
+
+    /**
+     * 업로드 취소 - 수신 파일 및 상태 삭제
+     */
+    public Boolean reqDeleteChunkUpload(String uploadId) throws ServiceException {
+        FileUploadDto fileUploadDto = getUpload(uploadId);
+        if (STATUS_COMPLETE.equals(fileUploadDto.getStatus())) {
+            throw new ServiceException("이미 완료된 업로드입니다.");
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                fileMapper.deleteFileUploadRange(uploadId);
+                fileMapper.deleteFileUpload(uploadId);
+            });
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        }
+        deleteQuietly(Paths.get(fileUploadDto.getPartPath()));
+        return true;
+    }
+
+    /**
+     * 만료된 분할 업로드 정리 (미완료 수신 파일 삭제)
+     *
+     * @return int 정리 건수
+     */
+    public int reapExpiredUploads(int graceHours, int limit) throws ServiceException {
+        List<FileUploadDto> uploadList = fileMapper.selectListFileUploadExpired(graceHours, limit);
+        for (FileUploadDto fileUploadDto : uploadList) {
+            transactionTemplate.executeWithoutResult(status -> {
+                fileMapper.deleteFileUploadRange(fileUploadDto.getUploadId());
+                fileMapper.deleteFileUpload(fileUploadDto.getUploadId());
+            });
+            if (!STATUS_COMPLETE.equals(fileUploadDto.getStatus())) {
+                deleteQuietly(Paths.get(fileUploadDto.getPartPath()));
+            }
+        }
+        return uploadList.size();
+    }
+
+    /**
+     * 업로드 정보 조회 - 시작한 사용자가 아니면 없는 업로드와 같이 처리
+     */
+    private FileUploadDto getUpload(String uploadId) throws ServiceException {
+        String regId = currentUserId();
+        try {
+            FileUploadDto fileUploadDto = fileMapper.selectOneFileUpload(uploadId);
+            if (fileUploadDto == null || !regId.equals(fileUploadDto.getRegId())) {
+                throw new ServiceException("업로드 정보가 없습니다.");
+            }
+            return fileUploadDto;
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자별 동시 업로드 건수 / 예약 크기 제한 확인
+     */
+    private void checkUsage(String regId, long fileSize) throws ServiceException {
+        try {
+            Map<String, Object> usage = fileMapper.selectOneFileUploadUsage(regId);
+            long uploadCnt = ((Number) usage.get("uploadCnt")).longValue();
+            long reservedSize = ((Number) usage.get("reservedSize")).longValue();
+            if (uploadCnt >= maxOpenPerUser) {
+                throw new ServiceException("진행 중인 업로드가 너무 많습니다.");
+            }
+            if (reservedSize + fileSize > maxReservedPerUser) {
+                throw new ServiceException("진행 중인 업로드 용량을 초과했습니다.");
+            }
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        }
+    }
+
+    /**
+     * 요청 사용자 아이디 (JWT 인증)
+     */
+    private static String currentUserId() throws ServiceException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getName() == null) {
+            throw new ServiceException("인증 정보가 없습니다.");
+        }
+        return authentication.getName();
+    }
+
+    private Map<String, Object> completeResult(FileUploadDto fileUploadDto, String fileId, FileDto fileDto) {
+        Map<String, Object> resultMap = new HashMap<>();
+        String resultFileId = fileId != null ? fileId : fileUploadDto.getFileId();
+        resultMap.put("filename", fileUploadDto.getRealFileNm());
+        resultMap.put("uploaded", resultFileId != null ? "1" : "0");
+        if (resultFileId != null) {
+            resultMap.put("url", "/api/file?fileId=" + resultFileId);
+        }
+        resultMap.put("size", fileUploadDto.getFileSize());
+        if (fileDto != null) {
+            resultMap.put("sha256", fileDto.getFileHash());
+        }
+        return resultMap;
+    }
+
+    /**
+     * 수신 구간 병합 - [[start, end), ...]
+     */
+    private static List<long[]> mergeRanges(List<FileUploadRangeDto> rangeList) {
+        List<long[]> merged = new ArrayList<>();
+        for (FileUploadRangeDto range : rangeList) {
+            if (!merged.isEmpty() && range.getRangeStart() <= merged.get(merged.size() - 1)[1]) {
+                long[] last = merged.get(merged.size() - 1);
+                last[1] = Math.max(last[1], range.getRangeEnd());
+            } else {
+                merged.add(new long[]{range.getRangeStart(), range.getRangeEnd()});
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 수신 파일 SHA-256 계산
+     */
+    private static String digest(Path partPath) throws ServiceException {
+        try (FileChannel channel = FileChannel.open(partPath, StandardOpenOption.READ)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer buffer = ByteBuffer.allocateDirect(DIGEST_BUFFER_SIZE);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.error("chunk upload digest failed: {}", partPath, e);
+            throw new ServiceException("파일 저장 실패: " + e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to cleanup part file {}", path, e);
+        }
+    }
+
+    /**
+     * 요청 본문 채널 - 읽기(수신) 중 발생한 예외인지 구분하기 위해 사용
+     */
+    private static final class RequestBodyChannel implements ReadableByteChannel {
+
+        private final ReadableByteChannel delegate;
+
+        private boolean readFailed;
+
+        private RequestBodyChannel(ReadableByteChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            try {
+                return delegate.read(dst);
+            } catch (IOException e) {
+                readFailed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        boolean isReadFailed() {
+            return readFailed;
+        }
+    }
+}
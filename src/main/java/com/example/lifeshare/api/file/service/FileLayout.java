@@ -0,0 +1,60 @@
+package com.example.lifeshare.api.file.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 디렉토리 분산(fan-out) 레이아웃 클래스
+ * - 저장 파일명에서 얻은 hex 접두어로 하위 디렉토리를 만든다. (예: depth 2, width 2 -> ab/cd/)
+ * - 컨텐츠 해시 파일명은 앞부분을 그대로 쓰고, 그 외 파일명은 파일명 해시를 사용
+ *
+ * @author minyoung
+ * @version 1.0
+ **/
+@Component
+public class FileLayout {
+
+    /**
+     * SHA-256 hex 파일명 패턴
+     */
+    private static final Pattern CONTENT_HASH_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+
+    /**
+     * 디렉토리 단계 수
+     */
+    private final int depth;
+
+    /**
+     * 단계별 디렉토리명 길이 (hex 문자 수)
+     */
+    private final int width;
+
+    public FileLayout(@Value("${file.layout.depth:2}") int depth,
+                      @Value("${file.layout.width:2}") int width) {
+        if (depth < 0 || width < 1 || depth * width > 8) {
+            throw new IllegalArgumentException("file.layout depth * width must be between 0 and 8");
+        }
+        this.depth = depth;
+        this.width = width;
+    }
+
+    /**
+     * 저장 파일명에 대한 하위 디렉토리 경로 (구분자로 끝남, depth 0 이면 빈 문자열)
+     *
+     * @param storedFileName 저장 파일명
+     * @return 하위 디렉토리 경로
+     **/
+    public String shardPath(String storedFileName) {
+        String key = CONTENT_HASH_PATTERN.matcher(storedFileName).matches()
+                ? storedFileName
+                : String.format("%08x", storedFileName.hashCode());
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            sb.append(key, i * width, (i + 1) * width).append(File.separator);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.lifeshare.api.file.service;
+
+import com.example.lifeshare.api.file.mapper.FileMapper;
+import com.example.lifeshare.api.file.model.FileBlobDto;
+import com.example.lifeshare.api.file.model.FileDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업로드 디렉토리 레이아웃 이관 명령
+ * - 실행 : --file.layout.migrate=true [--file.layout.migrate-path=...]
+ * - 평면 디렉토리에 있는 파일을 FileLayout 하위 디렉토리로 이동하고 file_path 를 배치 단위로 수정
+ * - 중단 후 재실행해도 이어서 처리 (이동 완료 파일은 경로만 수정)
+ * - 완료 후 애플리케이션 종료
+ * - 웹 서버와 주기 작업 없이 실행 (FileLayoutMigrationEnvironment, SchedulingConfig), 다른 인스턴스는 중지 후 실행
+ *
+ * @author minyoung
+ * @version 1.0
+ **/
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.layout.migrate", havingValue = "true")
+public class FileLayoutMigration implements ApplicationRunner {
+
+    private final FileMapper fileMapper;
+
+    private final FileLayout fileLayout;
+
+    private final FileStorage fileStorage;
+
+    private final FileMetaCache fileMetaCache;
+
+    private final ApplicationContext applicationContext;
+
+    /**
+     * 이관 대상 디렉토리
+     */
+    @Value("${file.layout.migrate-path:${file.community-path}}")
+    private String migratePath;
+
+    /**
+     * 배치 크기
+     */
+    @Value("${file.layout.migrate-batch:500}")
+    private int batchSize;
+
+    @Autowired
+    public FileLayoutMigration(FileMapper fileMapper,
+                               FileLayout fileLayout,
+                               FileStorage fileStorage,
+                               FileMetaCache fileMetaCache,
+                               ApplicationContext applicationContext) {
+        this.fileMapper = fileMapper;
+        this.fileLayout = fileLayout;
+        this.fileStorage = fileStorage;
+        this.fileMetaCache = fileMetaCache;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            migrate();
+        } catch (Exception e) {
+            log.error("file layout migration failed", e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+
+    /**
+     * 배치 단위 이관
+     */
+    private void migrate() throws IOException {
+        if (!fileStorage.isLocal()) {
+            throw new IllegalStateException("file layout migration supports local storage only: " + fileStorage.getType());
+        }
+        String basePath = Paths.get(migratePath).toAbsolutePath().normalize().toString();
+        if (!basePath.endsWith(File.separator)) basePath = basePath + File.separator;
+        log.info("file layout migration start: {}", basePath);
+
+        long lastFileId = 0;
+        int movedCnt = 0;
+        int updatedCnt = 0;
+        int missingCnt = 0;
+        while (true) {
+            List<FileDto> fileList = fileMapper.selectListFileInfoByPath(basePath, lastFileId, batchSize);
+            if (fileList.isEmpty()) {
+                break;
+            }
+
+            List<FileDto> updateList = new ArrayList<>();
+            Map<String, FileBlobDto> blobMap = new LinkedHashMap<>();
+            for (FileDto fileDto : fileList) {
+                lastFileId = Math.max(lastFileId, Long.parseLong(fileDto.getFileId()));
+
+                String targetDir = basePath + fileLayout.shardPath(fileDto.getFileNm());
+                Path source = Paths.get(basePath + fileDto.getFileNm());
+                Path target = Paths.get(targetDir + fileDto.getFileNm());
+                if (Files.exists(source)) {
+                    Files.createDirectories(target.getParent());
+                    Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+                    movedCnt++;
+                } else if (!Files.exists(target)) {
+                    log.warn("file not found, skip: fileId={}, path={}", fileDto.getFileId(), source);
+                    missingCnt++;
+                    continue;
+                }
+
+                FileDto updateDto = new FileDto();
+                updateDto.setFileId(fileDto.getFileId());
+                updateDto.setFilePath(targetDir);
+                updateList.add(updateDto);
+
+                if (fileDto.getFileHash() != null) {
+                    FileBlobDto fileBlobDto = new FileBlobDto();
+                    fileBlobDto.setBlobHash(fileDto.getFileHash());
+                    fileBlobDto.setFilePath(targetDir);
+                    blobMap.put(fileDto.getFileHash(), fileBlobDto);
+                }
+            }
+
+            if (!updateList.isEmpty()) {
+                updatedCnt += fileMapper.updateFileInfoPathBatch(updateList);
+                List<String> fileIdList = new ArrayList<>();
+                for (FileDto updateDto : updateList) {
+                    fileIdList.add(updateDto.getFileId());
+                }
+                fileMetaCache.invalidate(fileIdList);
+            }
+            if (!blobMap.isEmpty()) {
+                fileMapper.updateFileBlobPathBatch(new ArrayList<>(blobMap.values()));
+            }
+            log.info("file layout migration progress: lastFileId={}, moved={}, updated={}, missing={}", lastFileId, movedCnt, updatedCnt, missingCnt);
+        }
+        log.info("file layout migration done: moved={}, updated={}, missing={}", movedCnt, updatedCnt, missingCnt);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.lifeshare.api.file.service;
+
+import com.example.lifeshare.api.file.model.FileDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 파일 메타정보 캐시 (fileId 기준, W-TinyLFU)
+ * - 삭제/경로 이관(file_path 수정) 시 무효화
+ * - 다른 인스턴스의 삭제/이관은 무효화되지 않으므로 유지 시간(ttl-ms) 후 만료
+ * - 문자열 길이 기준 가중치로 전체 크기 제한
+ *
+ * @author minyoung
+ * @version 1.0
+ **/
+@Component
+public class FileMetaCache {
+
+    /**
+     * 항목 기본 가중치 (객체 헤더 등)
+     */
+    private static final int BASE_WEIGHT = 64;
+
+    /**
+     * 캐시 객체
+     */
+    private final Cache<String, FileDto> cache;
+
+    public FileMetaCache(@Value("${file.meta-cache.max-weight:8388608}") long maxWeight,
+                         @Value("${file.meta-cache.ttl-ms:600000}") long ttlMs) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumWeight(maxWeight)
+                .weigher((String fileId, FileDto fileDto) -> weigh(fileDto))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 조회 후 적재 (null 은 적재하지 않음)
+     */
+    public FileDto get(String fileId, Function<String, FileDto> loader) {
+        if (fileId == null) {
+            return loader.apply(null);
+        }
+        return cache.get(fileId, loader);
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 중이면 커밋 후 한 번 더 무효화 (커밋 전 재적재 방지)
+     */
+    public void invalidate(Collection<String> fileIdList) {
+        List<String> keyList = new ArrayList<>();
+        for (String fileId : fileIdList) {
+            if (fileId != null) {
+                keyList.add(fileId);
+            }
+        }
+        cache.invalidateAll(keyList);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(keyList);
+                }
+            });
+        }
+    }
+
+    /**
+     * 캐시 통계 (hit / miss / eviction)
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("size", cache.estimatedSize());
+        resultMap.put("hitCount", stats.hitCount());
+        resultMap.put("missCount", stats.missCount());
+        resultMap.put("hitRate", stats.hitRate());
+        resultMap.put("evictionCount", stats.evictionCount());
+        resultMap.put("evictionWeight", stats.evictionWeight());
+        return resultMap;
+    }
+
+    /**
+     * 캐시 객체 (메트릭 바인딩용)
+     */
+    public Cache<String, FileDto> getCache() {
+        return cache;
+    }
+
+    /**
+     * 항목 가중치 - 문자열 필드 길이 합
+     */
+    private static int weigh(FileDto fileDto) {
+        return BASE_WEIGHT
+                + length(fileDto.getFileId())
+                + length(fileDto.getTargId())
+                + length(fileDto.getTypeNm())
+                + length(fileDto.getFileNm())
+                + length(fileDto.getRealFileNm())
+                + length(fileDto.getFilePath())
+                + length(fileDto.getExt())
+                + length(fileDto.getVideoYn())
+                + length(fileDto.getFileHash())
+                + length(fileDto.getRegDt());
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length() * 2;
+    }
+}
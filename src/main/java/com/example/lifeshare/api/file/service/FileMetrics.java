@@ -0,0 +1,124 @@
+package com.example.lifeshare.api.file.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 업로드/다운로드 메트릭 클래스
+ * - 업로드 단계별(transfer / meta / move) 소요시간, 업로드 크기 (typeNm, videoYn 태그)
+ * - 요청 값인 typeNm / videoYn 은 정해진 값 외에는 other 로 기록 (태그 값 수 제한)
+ * - 다운로드 소요시간, 전송 크기 (disposition, source 태그)
+ * - 파일 메타/내용 캐시 상태
+ *
+ * @author minyoung
+ * @version 1.0
+ **/
+@Component
+public class FileMetrics {
+
+    /**
+     * 업로드 단계 - 요청 본문을 임시파일로 기록
+     */
+    public static final String PHASE_TRANSFER = "transfer";
+
+    /**
+     * 업로드 단계 - blob/파일 정보 DB 등록
+     */
+    public static final String PHASE_META = "meta";
+
+    /**
+     * 업로드 단계 - 임시파일을 최종 위치로 이동
+     */
+    public static final String PHASE_MOVE = "move";
+
+    /**
+     * typeNm 태그 허용 값
+     */
+    private static final Set<String> TYPE_NM_TAG_SET = Set.of("community", "video");
+
+    /**
+     * videoYn 태그 허용 값
+     */
+    private static final Set<String> VIDEO_YN_TAG_SET = Set.of("Y", "N");
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public FileMetrics(MeterRegistry meterRegistry,
+                       FileMetaCache fileMetaCache,
+                       FileByteCache fileByteCache) {
+        this.meterRegistry = meterRegistry;
+        CaffeineCacheMetrics.monitor(meterRegistry, fileMetaCache.getCache(), "fileMeta");
+        Gauge.builder("lifeshare.file.byte.cache.size", fileByteCache, cache -> cache.getTotalSize())
+                .description("파일 내용 캐시 적재 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 업로드 단계 소요시간
+     */
+    public void recordUploadPhase(String phase, String typeNm, String videoYn, long nanos) {
+        Timer.builder("lifeshare.file.upload.phase")
+                .description("파일 업로드 단계별 소요시간")
+                .tag("phase", phase)
+                .tag("typeNm", tagValue(typeNm, TYPE_NM_TAG_SET))
+                .tag("videoYn", tagValue(videoYn, VIDEO_YN_TAG_SET))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 업로드 파일 크기
+     */
+    public void recordUploadSize(String typeNm, String videoYn, long bytes) {
+        DistributionSummary.builder("lifeshare.file.upload.size")
+                .description("업로드 파일 크기")
+                .baseUnit("bytes")
+                .tag("typeNm", tagValue(typeNm, TYPE_NM_TAG_SET))
+                .tag("videoYn", tagValue(videoYn, VIDEO_YN_TAG_SET))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    /**
+     * 파일 응답 소요시간 및 전송 크기
+     * - sendfile 전송은 컨테이너가 응답 후 처리하므로 소요시간에 전송 시간이 포함되지 않음
+     *
+     * @param disposition inline / attachment / thumb
+     * @param source      memory / disk
+     */
+    public void recordDownload(String disposition, String source, long nanos, long bytes) {
+        Timer.builder("lifeshare.file.download")
+                .description("파일 응답 소요시간")
+                .tag("disposition", disposition)
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("lifeshare.file.download.size")
+                .description("파일 응답 전송 크기")
+                .baseUnit("bytes")
+                .tag("disposition", disposition)
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    private static String tagValue(String value, Set<String> allowedSet) {
+        if (value == null || value.isBlank()) {
+            return "none";
+        }
+        return allowedSet.contains(value) ? value : "other";
+    }
+}
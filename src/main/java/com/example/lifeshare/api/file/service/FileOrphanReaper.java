@@ -0,0 +1,395 @@
+package com.example.lifeshare.api.file.service;
+
+import com.example.lifeshare.api.file.mapper.FileMapper;
+import com.example.lifeshare.api.file.model.FileDto;
+import com.example.lifeshare.cmm.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * 고아 파일 정리 클래스
+ * - 업로드 디렉토리를 이름 순으로 조금씩 순회하며 DB(lf_file_list, lf_file_blob) 와 배치 비교
+ * - 순회 위치는 커서 파일에 저장하여 다음 실행 시 이어서 진행, 전체 순회가 끝나면 처음부터 다시 시작
+ * - 유예 시간이 지난 미참조 파일 / 임시(.tmp) 파일 / 원본 없는 썸네일 삭제
+ * - 어느 게시글 본문도 참조하지 않는 컨텐츠 업로드 파일(targ_id = '0') 정보 삭제 (참조는 게시글 등록/수정/삭제 시 lf_board_content_file 에 갱신)
+ * - 유예 시간 동안 수신이 없는 분할 업로드 정리
+ * - 디렉토리 순회는 로컬 업로드 디렉토리 기준 (원격 저장소 사용 시 임시/파생 파일만 대상)
+ *
+ * @author minyoung
+ * @version 1.0
+ **/
+@Slf4j
+@Component
+public class FileOrphanReaper {
+
+    /**
+     * 순회 위치 저장 파일명
+     */
+    private static final String CURSOR_FILE_NAME = ".reaper-cursor";
+
+    /**
+     * 임시 파일 확장자
+     */
+    private static final String TMP_SUFFIX = ".tmp";
+
+    /**
+     * 분할 업로드 수신 파일 확장자 (수신 시마다 수정시각 갱신)
+     */
+    private static final String PART_SUFFIX = ".part";
+
+    /**
+     * 컨텐츠 주소(SHA-256) 저장 파일명
+     */
+    private static final Pattern BLOB_NAME_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+
+    private final FileMapper fileMapper;
+
+    private final FileService fileService;
+
+    private final FileChunkUploadService fileChunkUploadService;
+
+    private final FileStorage fileStorage;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${file.community-path}")
+    private String communityPath;
+
+    /**
+     * 정리 사용 여부
+     */
+    @Value("${file.reaper.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 유예 시간 - 생성/수정 후 이 시간이 지나야 정리 대상
+     */
+    @Value("${file.reaper.grace-hours:24}")
+    private int graceHours;
+
+    /**
+     * 배치 크기 (파일 수)
+     */
+    @Value("${file.reaper.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 1회 실행 최대 확인 파일 수
+     */
+    @Value("${file.reaper.max-files-per-run:20000}")
+    private int maxFilesPerRun;
+
+    /**
+     * 배치 사이 대기 시간 (ms) - 디스크/DB 부하 완화
+     */
+    @Value("${file.reaper.throttle-ms:200}")
+    private long throttleMs;
+
+    /**
+     * 실행 중 여부
+     */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 마지막 실행 결과
+     */
+    private volatile Map<String, Object> lastReport = new HashMap<>();
+
+    @Autowired
+    public FileOrphanReaper(FileMapper fileMapper,
+                            FileService fileService,
+                            FileChunkUploadService fileChunkUploadService,
+                            FileStorage fileStorage,
+                            TransactionTemplate transactionTemplate) {
+        this.fileMapper = fileMapper;
+        this.fileService = fileService;
+        this.fileChunkUploadService = fileChunkUploadService;
+        this.fileStorage = fileStorage;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 주기적 정리
+     */
+    @Scheduled(fixedDelayString = "${file.reaper.interval-ms:3600000}",
+            initialDelayString = "${file.reaper.interval-ms:3600000}")
+    public void reap() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Report report = new Report();
+            long startTime = System.currentTimeMillis();
+            reapUnattachedFileInfo(report);
+            report.expiredUploadCnt = fileChunkUploadService.reapExpiredUploads(graceHours, batchSize);
+            reapDirectory(Paths.get(communityPath).toAbsolutePath().normalize(), report);
+            lastReport = report.toMap(System.currentTimeMillis() - startTime);
+            log.info("file orphan reaper: {}", lastReport);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | DataAccessException | ServiceException e) {
+            log.warn("file orphan reaper failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 마지막 실행 결과
+     */
+    public Map<String, Object> getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 게시글 본문에서 참조하지 않는 컨텐츠 업로드 파일 정보 삭제 (물리 파일은 삭제 대기 등록)
+     * - 조회 후 삭제 전에 참조가 등록될 수 있으므로 삭제 트랜잭션에서 잠금 후 다시 확인
+     */
+    private void reapUnattachedFileInfo(Report report) throws InterruptedException {
+        long lastFileId = 0L;
+        List<FileDto> fileList;
+        do {
+            fileList = fileMapper.selectListFileInfoUnattached(lastFileId, graceHours, batchSize);
+            if (fileList.isEmpty()) {
+                break;
+            }
+            List<String> fileIdList = new ArrayList<>();
+            for (FileDto fileDto : fileList) {
+                fileIdList.add(fileDto.getFileId());
+            }
+            Integer deletedCnt = transactionTemplate.execute(status -> {
+                List<FileDto> lockedList = fileMapper.selectListFileInfoUnattachedForUpdate(fileIdList);
+                if (lockedList.isEmpty()) {
+                    return 0;
+                }
+                List<String> lockedIdList = new ArrayList<>();
+                for (FileDto fileDto : lockedList) {
+                    lockedIdList.add(fileDto.getFileId());
+                }
+                fileMapper.deleteFileInfoByIdList(lockedIdList);
+                fileService.releaseFiles(lockedList);
+                return lockedList.size();
+            });
+            report.unattachedCnt += deletedCnt == null ? 0 : deletedCnt;
+            lastFileId = Long.parseLong(fileList.get(fileList.size() - 1).getFileId());
+            TimeUnit.MILLISECONDS.sleep(throttleMs);
+        } while (fileList.size() == batchSize);
+    }
+
+    /**
+     * 업로드 디렉토리 순회 정리
+     */
+    private void reapDirectory(Path root, Report report) throws IOException, InterruptedException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        Path cursorFile = root.resolve(CURSOR_FILE_NAME);
+        Path cursor = readCursor(cursorFile);
+        long graceMillis = TimeUnit.HOURS.toMillis(graceHours);
+
+        while (report.scannedCnt < maxFilesPerRun) {
+            List<Path> batch = new ArrayList<>();
+            collect(root, root, cursor, batch, Math.min(batchSize, maxFilesPerRun - report.scannedCnt));
+            if (batch.isEmpty()) {
+                // 전체 순회 완료 - 다음 실행은 처음부터
+                cursor = null;
+                report.cycleCompleted = true;
+                break;
+            }
+            processBatch(root, batch, System.currentTimeMillis() - graceMillis, report);
+            report.scannedCnt += batch.size();
+            cursor = root.relativize(batch.get(batch.size() - 1));
+            writeCursor(cursorFile, cursor);
+            TimeUnit.MILLISECONDS.sleep(throttleMs);
+        }
+        writeCursor(cursorFile, cursor);
+    }
+
+    /**
+     * 커서 이후 파일을 이름 순으로 최대 limit 건 수집 (커서 이전 디렉토리는 건너뜀)
+     */
+    private void collect(Path root, Path dir, Path cursor, List<Path> batch, int limit) throws IOException {
+        List<Path> children = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path child : stream) {
+                if (!child.getFileName().toString().startsWith(".")) {
+                    children.add(child);
+                }
+            }
+        }
+        children.sort((a, b) -> a.getFileName().toString().compareTo(b.getFileName().toString()));
+
+        for (Path child : children) {
+            if (batch.size() >= limit) {
+                return;
+            }
+            Path relative = root.relativize(child);
+            if (Files.isDirectory(child)) {
+                if (cursor == null || cursor.startsWith(relative) || compare(relative, cursor) > 0) {
+                    collect(root, child, cursor, batch, limit);
+                }
+            } else if (cursor == null || compare(relative, cursor) > 0) {
+                batch.add(child);
+            }
+        }
+    }
+
+    /**
+     * 배치 단위 정리 - 저장 파일명으로 DB 참조 여부를 한 번에 확인
+     */
+    private void processBatch(Path root, List<Path> batch, long graceTime, Report report) throws IOException {
+        List<Path> candidateList = new ArrayList<>();
+        for (Path file : batch) {
+            if (Files.getLastModifiedTime(file).toMillis() > graceTime) {
+                continue;
+            }
+            String fileName = file.getFileName().toString();
+            if (fileName.endsWith(TMP_SUFFIX) || fileName.endsWith(PART_SUFFIX)) {
+                // 업로드/썸네일 생성 중단, 분할 업로드 중단으로 남은 임시 파일
+                delete(file, report);
+                report.tmpCnt++;
+            } else if (fileName.contains(FileThumbnailGenerator.THUMB_SEPARATOR)) {
+                // 원본이 없는 썸네일 (원격 저장소는 원본이 로컬에 없으므로 삭제 대기 처리에 맡김)
+                String originalName = fileName.substring(0, fileName.lastIndexOf(FileThumbnailGenerator.THUMB_SEPARATOR));
+                if (fileStorage.isLocal() && !Files.exists(file.resolveSibling(originalName))) {
+                    delete(file, report);
+                    report.thumbCnt++;
+                }
+            } else {
+                candidateList.add(file);
+            }
+        }
+        if (candidateList.isEmpty()) {
+            return;
+        }
+
+        List<String> fileNmList = new ArrayList<>();
+        for (Path file : candidateList) {
+            fileNmList.add(file.getFileName().toString());
+        }
+        Set<String> referencedSet = new HashSet<>(fileMapper.selectListFileNmReferenced(fileNmList));
+
+        for (Path file : candidateList) {
+            String fileName = file.getFileName().toString();
+            if (referencedSet.contains(fileName)) {
+                continue;
+            }
+            if (BLOB_NAME_PATTERN.matcher(fileName).matches()) {
+                // 동일 내용 재업로드와 경합하지 않도록 blob 행 잠금 후 삭제
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (fileMapper.selectOneFileBlobForUpdate(fileName) == null) {
+                        delete(file, report);
+                        report.orphanCnt++;
+                    }
+                });
+            } else {
+                delete(file, report);
+                report.orphanCnt++;
+            }
+        }
+    }
+
+    /**
+     * 파일 삭제 후 회수 용량 집계
+     */
+    private void delete(Path file, Report report) {
+        try {
+            long size = Files.size(file);
+            if (Files.deleteIfExists(file)) {
+                report.reclaimedBytes += size;
+            }
+        } catch (IOException e) {
+            log.warn("orphan delete failed: {}", file, e);
+        }
+    }
+
+    /**
+     * 경로 비교 - 디렉토리 순회 순서(이름 순, 깊이 우선)와 동일
+     */
+    private static int compare(Path a, Path b) {
+        int count = Math.min(a.getNameCount(), b.getNameCount());
+        for (int i = 0; i < count; i++) {
+            int result = a.getName(i).toString().compareTo(b.getName(i).toString());
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(a.getNameCount(), b.getNameCount());
+    }
+
+    private static Path readCursor(Path cursorFile) {
+        try {
+            if (Files.isRegularFile(cursorFile)) {
+                String value = Files.readString(cursorFile, StandardCharsets.UTF_8).trim();
+                return value.isEmpty() ? null : Paths.get(value);
+            }
+        } catch (IOException e) {
+            log.warn("reaper cursor read failed: {}", cursorFile, e);
+        }
+        return null;
+    }
+
+    private static void writeCursor(Path cursorFile, Path cursor) throws IOException {
+        Path tmpFile = cursorFile.resolveSibling(CURSOR_FILE_NAME + ".new");
+        Files.writeString(tmpFile, cursor == null ? "" : cursor.toString(), StandardCharsets.UTF_8);
+        Files.move(tmpFile, cursorFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 실행 결과 집계
+     */
+    private static final class Report {
+
+        private int scannedCnt;
+
+        private int orphanCnt;
+
+        private int tmpCnt;
+
+        private int thumbCnt;
+
+        private int unattachedCnt;
+
+        private int expiredUploadCnt;
+
+        private long reclaimedBytes;
+
+        private boolean cycleCompleted;
+
+        private Map<String, Object> toMap(long elapsedMs) {
+            Map<String, Object> resultMap = new HashMap<>();
+            resultMap.put("scannedCnt", scannedCnt);
+            resultMap.put("orphanCnt", orphanCnt);
+            resultMap.put("tmpCnt", tmpCnt);
+            resultMap.put("thumbCnt", thumbCnt);
+            resultMap.put("unattachedCnt", unattachedCnt);
+            resultMap.put("expiredUploadCnt", expiredUploadCnt);
+            resultMap.put("reclaimedBytes", reclaimedBytes);
+            resultMap.put("cycleCompleted", cycleCompleted);
+            resultMap.put("elapsedMs", elapsedMs);
+            return resultMap;
+        }
+    }
+}
@@ -1,42 +1,184 @@
 package com.example.lifeshare.api.file.service;
 
 import com.example.lifeshare.api.file.mapper.FileMapper;
+import com.example.lifeshare.api.file.model.FileAttachChangedEvent;
+import com.example.lifeshare.api.file.model.FileBlobDto;
 import com.example.lifeshare.api.file.model.FileDto;
+import com.example.lifeshare.api.file.model.FileTombstoneDto;
+import com.example.lifeshare.api.file.model.FileVideoDto;
+import com.example.lifeshare.api.file.model.StagedFileDto;
 import com.example.lifeshare.cmm.exception.ServiceException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
-import java.sql.Timestamp;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
 public class FileService {
 
+    /**
+     * 스트리밍 기록 단위 (byte)
+     */
+    private static final long STREAM_CHUNK_SIZE = 1024L * 1024L;
+
+    /**
+     * 일괄 삭제 시 1회 IN 목록 크기
+     */
+    private static final int DELETE_BATCH_SIZE = 500;
+
     @Value("${file.community-path}")
     private String communityPath;
 
+    @Value("${file.upload.stream-max-size:2147483648}")
+    private long streamMaxSize;
+
+    /**
+     * 스트리밍 업로드 요청 전체 최대 크기 (byte)
+     */
+    @Value("${file.upload.stream-max-request-size:4294967296}")
+    private long streamMaxRequestSize;
+
+    /**
+     * 스트리밍 업로드 최대 파트 수 (폼 필드 포함)
+     */
+    @Value("${file.upload.stream-max-part-count:20}")
+    private long streamMaxPartCount;
+
+    /**
+     * 스트리밍 업로드 파트 헤더 최대 크기 (byte)
+     */
+    @Value("${file.upload.stream-max-part-header-size:1024}")
+    private int streamMaxPartHeaderSize;
+
+    /**
+     * 스트리밍 업로드 폼 필드 값 최대 크기 (byte)
+     */
+    @Value("${file.upload.stream-max-field-size:1024}")
+    private int streamMaxFieldSize;
+
+    /**
+     * 파일 응답 브라우저 캐시 유지 시간 (초, 0 이면 매 요청 재검증)
+     */
+    @Value("${file.cache-control.max-age:300}")
+    private long cacheMaxAge;
+
+    /**
+     * 다운로드(attachment) 응답 캐시 허용 여부 (false 면 기존과 같이 no-store)
+     */
+    @Value("${file.download.cacheable:false}")
+    private boolean downloadCacheable;
+
+    /**
+     * 파일 응답을 저장소 서명 URL 로 redirect (지원 저장소만, 미지원 시 직접 전송)
+     */
+    @Value("${file.storage.redirect.enabled:false}")
+    private boolean redirectEnabled;
+
+    /**
+     * 서명 URL 유효 시간 (초)
+     */
+    @Value("${file.storage.redirect.ttl-sec:300}")
+    private long redirectTtlSec;
+
     private final FileMapper fileMapper;
 
+    private final FileStreamWriter fileStreamWriter;
+
+    private final FileLayout fileLayout;
+
+    private final FileStorage fileStorage;
+
+    private final FileMetaCache fileMetaCache;
+
+    private final FileByteCache fileByteCache;
+
+    private final FileThumbnailGenerator fileThumbnailGenerator;
+
+    private final FileTombstoneWorker fileTombstoneWorker;
+
+    private final FileMetrics fileMetrics;
+
+    private final FileVideoPipeline fileVideoPipeline;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 첨부파일 디스크 I/O 전용 스레드풀
+     */
+    private final Executor fileUploadExecutor;
+
     @Autowired
-    public FileService(FileMapper fileMapper) {
+    public FileService(FileMapper fileMapper,
+                       FileStreamWriter fileStreamWriter,
+                       FileLayout fileLayout,
+                       FileStorage fileStorage,
+                       FileMetaCache fileMetaCache,
+                       FileByteCache fileByteCache,
+                       FileThumbnailGenerator fileThumbnailGenerator,
+                       FileTombstoneWorker fileTombstoneWorker,
+                       FileMetrics fileMetrics,
+                       FileVideoPipeline fileVideoPipeline,
+                       TransactionTemplate transactionTemplate,
+                       ApplicationEventPublisher eventPublisher,
+                       @Qualifier("fileUploadExecutor") Executor fileUploadExecutor) {
         this.fileMapper = fileMapper;
+        this.fileStreamWriter = fileStreamWriter;
+        this.fileLayout = fileLayout;
+        this.fileStorage = fileStorage;
+        this.fileMetaCache = fileMetaCache;
+        this.fileByteCache = fileByteCache;
+        this.fileThumbnailGenerator = fileThumbnailGenerator;
+        this.fileTombstoneWorker = fileTombstoneWorker;
+        this.fileMetrics = fileMetrics;
+        this.fileVideoPipeline = fileVideoPipeline;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.fileUploadExecutor = fileUploadExecutor;
     }
 
     /**
@@ -55,111 +197,567 @@ public class FileService {
     }
 
     /**
-     * DB 저장만 담당 (트랜잭션)
+     * 파일 업로드 (I/O + DB meta)
+     * - 디스크 기록은 트랜잭션 밖, blob 참조수 증가와 메타 등록은 하나의 트랜잭션으로 처리
+     */
+    public FileDto fileUpload(MultipartFile file,
+                              String fileId,
+                              String savePath,
+                              String videoYn,
+                              String typeNm) throws ServiceException {
+        StagedFileDto stagedFile = stageFile(file, savePath);
+        try {
+            List<FileDto> fileList = transactionTemplate.execute(status -> saveStagedFiles(List.of(stagedFile), fileId, videoYn, typeNm));
+            return (fileList == null || fileList.isEmpty()) ? null : fileList.get(0);
+        } catch (ServiceException e) {
+            discardStagedFiles(List.of(stagedFile));
+            throw e;
+        }
+    }
+
+    /**
+     * 여러 파일을 업로드 스레드풀에서 병렬로 임시 저장한다. (DB 작업 없음)
+     * - 하나라도 실패하면 저장된 임시파일을 모두 정리 후 예외
+     * - 원본 파일명이 없는 파트는 제외
      */
-    @Transactional
-    protected FileDto saveFileMetaTransactional(String fileId,
-                                                String originalFileName,
-                                                String storedFileName,
-                                                String contentType,
-                                                String savePathWithTrailingSeparator,
-                                                String videoYn,
-                                                String typeNm) {
+    public List<StagedFileDto> stageFiles(MultipartFile[] files, String savePath) throws ServiceException {
+        List<StagedFileDto> stagedList = new ArrayList<>();
+        if (files == null || files.length == 0) {
+            return stagedList;
+        }
+
+        List<CompletableFuture<StagedFileDto>> futureList = new ArrayList<>();
+        for (MultipartFile file : files) {
+            String originalFilename = file.getOriginalFilename();
+            if (originalFilename == null || originalFilename.isEmpty()) {
+                continue;
+            }
+            futureList.add(CompletableFuture.supplyAsync(() -> stageFile(file, savePath), fileUploadExecutor));
+        }
+
+        RuntimeException failure = null;
+        for (CompletableFuture<StagedFileDto> future : futureList) {
+            try {
+                stagedList.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause() : e;
+                }
+            }
+        }
+        if (failure != null) {
+            discardStagedFiles(stagedList);
+            throw (failure instanceof ServiceException) ? (ServiceException) failure : new ServiceException(failure.getMessage());
+        }
+        return stagedList;
+    }
+
+    /**
+     * MultipartFile 을 업로드 디렉토리의 .tmp 로 임시 저장한다. (SHA-256 동시 계산)
+     */
+    public StagedFileDto stageFile(MultipartFile file, String savePath) throws ServiceException {
+        try (InputStream inputStream = file.getInputStream()) {
+            return stageStream(inputStream, file.getOriginalFilename(), file.getContentType(), savePath);
+        } catch (IOException ioe) {
+            log.error("File I/O error during upload", ioe);
+            throw new ServiceException("파일 저장 실패: " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * 입력 스트림을 업로드 디렉토리의 .tmp 로 임시 저장한다. (NIO 채널, 크기/SHA-256 동시 계산)
+     * - 원격 저장소 사용 시 저장 후 바로 원격 저장소에 올림 (pushStagedFiles)
+     */
+    public StagedFileDto stageStream(InputStream inputStream,
+                                     String fileName,
+                                     String contentType,
+                                     String savePath) throws ServiceException {
+        String originalFileName = (fileName == null) ? "unknown" : Paths.get(fileName).getFileName().toString();
+        StagedFileDto stagedFile = newStagedFile(originalFileName, contentType, savePath);
         try {
-            if (fileId == null) return null;
-            FileDto fileDto = new FileDto();
-            fileDto.setRealFileNm(originalFileName);
-            fileDto.setFileNm(storedFileName);
-            fileDto.setExt(contentType);
-            fileDto.setTargId(fileId);
-            fileDto.setVideoYn(videoYn);
-            fileDto.setFilePath(savePathWithTrailingSeparator); // ensure trailing separator for later concatenation
-            fileDto.setTypeNm(typeNm);
-
-            int result = fileMapper.reqPostFileInfo(fileDto);
-            if (result > 0) {
-                return fileDto;
-            } else {
-                return null;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long startTime = System.nanoTime();
+            stagedFile.setFileSize(writeStream(inputStream, stagedFile.getTmpPath(), digest));
+            stagedFile.setTransferNanos(System.nanoTime() - startTime);
+            stagedFile.setFileHash(HexFormat.of().formatHex(digest.digest()));
+            pushStagedFiles(List.of(stagedFile));
+            return stagedFile;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.error("File I/O error during stream upload", e);
+            discardStagedFiles(List.of(stagedFile));
+            throw new ServiceException("파일 저장 실패: " + e.getMessage());
+        } catch (ServiceException e) {
+            discardStagedFiles(List.of(stagedFile));
+            throw e;
+        }
+    }
+
+    /**
+     * 임시 저장된 파일의 메타정보를 등록하고 최종 위치로 이동한다.
+     * - 호출자의 트랜잭션 안에서 호출하면 메타 등록이 함께 커밋/롤백된다.
+     * - 원격 저장소는 pushStagedFiles 로 트랜잭션 전에 올려 둔 파일을 사용 (트랜잭션 안에서는 확인만)
+     * - 내용(SHA-256)이 같은 파일은 하나의 blob 을 공유하고 참조수만 증가
+     * - 이동은 메타 등록이 모두 끝난 뒤 수행
+     * - 영상(video/*) 파일은 videoYn 과 관계없이 영상으로 등록하고 후처리(포스터/HLS) 대상으로 등록
+     */
+    public List<FileDto> saveStagedFiles(List<StagedFileDto> stagedList,
+                                         String fileId,
+                                         String videoYn,
+                                         String typeNm) throws ServiceException {
+        List<FileDto> fileList = new ArrayList<>();
+        if (stagedList == null || stagedList.isEmpty()) {
+            return fileList;
+        }
+        if (fileId == null) {
+            throw new ServiceException("DB 저장 실패: 대상 아이디가 없습니다.");
+        }
+        try {
+            for (StagedFileDto stagedFile : stagedList) {
+                // 분할 업로드는 구간 수신 시 기록
+                if (stagedFile.getTransferNanos() > 0) {
+                    fileMetrics.recordUploadPhase(FileMetrics.PHASE_TRANSFER, typeNm, videoYn, stagedFile.getTransferNanos());
+                }
+                if (stagedFile.getFileSize() != null) {
+                    fileMetrics.recordUploadSize(typeNm, videoYn, stagedFile.getFileSize());
+                }
             }
+
+            // 1) blob 등록 - 최종 위치를 컨텐츠 주소로 결정
+            long metaStartTime = System.nanoTime();
+            for (StagedFileDto stagedFile : stagedList) {
+                registerBlob(stagedFile);
+            }
+
+            // 2) 메타 등록
+            for (StagedFileDto stagedFile : stagedList) {
+                fileList.add(toFileDto(stagedFile, fileId, videoYn, typeNm));
+            }
+            int result = (fileList.size() == 1)
+                    ? fileMapper.reqPostFileInfo(fileList.get(0))
+                    // 여러 건은 multi-row INSERT 한 번으로 등록
+                    : fileMapper.reqPostFileInfoBatch(fileList);
+            if (result != fileList.size()) {
+                throw new ServiceException("DB 저장 실패: " + result + "/" + fileList.size());
+            }
+            for (int i = 0; i < stagedList.size(); i++) {
+                fileList.get(i).setFileSize(stagedList.get(i).getFileSize());
+            }
+            fileMetrics.recordUploadPhase(FileMetrics.PHASE_META, typeNm, videoYn, System.nanoTime() - metaStartTime);
+
+            // 3) 저장소로 이동 - 이미 존재하는 blob 이면 임시파일만 삭제
+            long moveStartTime = System.nanoTime();
+            List<FileTombstoneDto> unusedPushList = new ArrayList<>();
+            for (StagedFileDto stagedFile : stagedList) {
+                String key = fileStorage.keyOf(stagedFile.getFinalPath());
+                if (stagedFile.getPushedPath() != null) {
+                    if (key.equals(fileStorage.keyOf(Paths.get(stagedFile.getPushedPath())))) {
+                        continue;
+                    }
+                    // 기존 blob 이 다른 경로(이전 레이아웃)에 있음 - 미리 올린 파일은 커밋 후 삭제
+                    unusedPushList.add(FileTombstoneDto.builder().filePath(stagedFile.getPushedPath()).build());
+                }
+                FileStorage.StoredObject stored = fileStorage.stat(key);
+                if (stored != null) {
+                    checkStoredSize(key, stored, stagedFile.getFileSize());
+                    Files.deleteIfExists(stagedFile.getTmpPath());
+                    log.info("Deduplicated upload, reusing blob: {}", key);
+                } else {
+                    fileStorage.store(stagedFile.getTmpPath(), key, stagedFile.getContentType());
+                    // 이동 후 크기 확인 - 해시 계산 이후 내용이 바뀐 파일이 blob 으로 등록되지 않도록 함
+                    checkStoredSize(key, fileStorage.stat(key), stagedFile.getFileSize());
+                    log.info("Stored uploaded file: {}:{}", fileStorage.getType(), key);
+                }
+            }
+            fileTombstoneWorker.enqueue(unusedPushList);
+            fileMetrics.recordUploadPhase(FileMetrics.PHASE_MOVE, typeNm, videoYn, System.nanoTime() - moveStartTime);
+
+            // 4) 영상 후처리 등록 (커밋 후 처리)
+            fileVideoPipeline.enqueue(fileList);
+            publishAttachChanged(fileList);
+            return fileList;
+        } catch (IOException ioe) {
+            log.error("File I/O error during upload", ioe);
+            throw new ServiceException("파일 저장 실패: " + ioe.getMessage());
         } catch (DataAccessException dae) {
-            log.error("saveFileMetaTransactional DB error", dae);
-            throw dae;
+            log.error("DB error during file upload", dae);
+            throw new ServiceException("DB 저장 실패: " + dae.getMessage());
         }
     }
 
     /**
-     * 파일 업로드 (I/O + DB meta). 트랜잭션은 DB 메서드에서만 적용.
+     * 저장된 blob 크기 확인 (다르면 예외, 트랜잭션 롤백)
      */
-    public FileDto fileUpload(MultipartFile file,
-                              String fileId,
-                              String savePath,
-                              String videoYn,
-                              String typeNm) throws ServiceException {
-        if (savePath == null || savePath.isBlank()) {
-            throw new ServiceException("저장할 파일경로가 없습니다.");
+    private static void checkStoredSize(String key, FileStorage.StoredObject stored, Long fileSize) throws ServiceException {
+        if (stored == null || fileSize == null || stored.size() != fileSize) {
+            log.error("stored blob size mismatch: key={}, expected={}, actual={}", key, fileSize, stored == null ? null : stored.size());
+            throw new ServiceException("파일 저장 실패: 저장된 파일 크기가 올바르지 않습니다.");
         }
+    }
+
+    /**
+     * blob 등록 (동일 해시가 있으면 참조수 증가) 후 임시 파일의 최종 위치를 설정한다.
+     * - 기존 blob 과 크기가 다르면 같은 해시로 다른 내용이 등록된 것이므로 예외
+     */
+    private void registerBlob(StagedFileDto stagedFile) throws ServiceException {
+        FileBlobDto fileBlobDto = new FileBlobDto();
+        fileBlobDto.setBlobHash(stagedFile.getFileHash());
+        fileBlobDto.setFilePath(stagedFile.getUploadDir() + fileLayout.shardPath(stagedFile.getFileHash()));
+        fileBlobDto.setFileNm(stagedFile.getFileHash());
+        fileBlobDto.setFileSize(stagedFile.getFileSize());
 
-        Path uploadDir;
-        Path tmpPath = null;
-        Path finalPath = null;
-        String storedFileName = null;
+        // 1: 신규 등록, 2: 기존 blob 참조수 증가
+        int result = fileMapper.insertFileBlob(fileBlobDto);
+        if (result > 1) {
+            fileBlobDto = fileMapper.selectOneFileBlob(stagedFile.getFileHash());
+            if (!fileBlobDto.getFileSize().equals(stagedFile.getFileSize())) {
+                log.error("blob size mismatch: hash={}, blob={}, upload={}", stagedFile.getFileHash(), fileBlobDto.getFileSize(), stagedFile.getFileSize());
+                throw new ServiceException("파일 저장 실패: 같은 해시의 파일 크기가 다릅니다.");
+            }
+        }
+        stagedFile.setUploadDir(fileBlobDto.getFilePath());
+        stagedFile.setStoredFileName(fileBlobDto.getFileNm());
+        stagedFile.setFinalPath(Paths.get(fileBlobDto.getFilePath() + fileBlobDto.getFileNm()));
+    }
 
+    /**
+     * 삭제된 파일 정보의 물리 파일 참조를 해제한다.
+     * - blob 파일은 참조수가 0 이 되었을 때만 삭제 대기 등록
+     * - blob 도입 이전 파일(file_hash 없음)은 바로 삭제 대기 등록
+     * - 영상 파일은 파생 파일(포스터/HLS) 정보와 후처리 작업도 함께 삭제
+     * - 실제 삭제는 커밋 후 FileTombstoneWorker 에서 수행
+     */
+    public void releaseFiles(List<FileDto> releaseList) throws ServiceException {
+        if (releaseList == null) {
+            return;
+        }
+        List<FileDto> fileList = new ArrayList<>(releaseList);
+        fileList.addAll(releaseVideoDerivatives(releaseList));
+        List<String> fileIdList = new ArrayList<>();
+        for (FileDto fileDto : fileList) {
+            fileIdList.add(fileDto.getFileId());
+        }
+        fileMetaCache.invalidate(fileIdList);
+        fileByteCache.invalidate(fileIdList);
+        publishAttachChanged(fileList);
         try {
-            // 1) 디렉토리 준비 (절대 경로로 정규화)
-            uploadDir = Paths.get(savePath).toAbsolutePath().normalize();
-//            uploadDir = Paths.get(savePath);
-            Files.createDirectories(uploadDir); // 존재하지 않으면 생성
-            log.info("Resolved upload directory: {}", uploadDir.toString());
-
-            // 2) 원본 파일명 안전 처리 및 저장 파일명 생성
-            String originalFileName = (file.getOriginalFilename() == null) ? "unknown" : Paths.get(file.getOriginalFilename()).getFileName().toString();
-            String ext = "";
-            int idx = originalFileName.lastIndexOf('.');
-            if (idx >= 0) ext = originalFileName.substring(idx);
+            // 해시별 감소 수 (해시 순으로 잠금 순서 고정)
+            Map<String, Integer> releaseCntMap = new TreeMap<>();
+            Map<String, String> blobPathMap = new HashMap<>();
+            List<FileTombstoneDto> tombstoneList = new ArrayList<>();
+            for (FileDto fileDto : fileList) {
+                String fullPath = fileDto.getFilePath() + fileDto.getFileNm();
+                if (fileDto.getFileHash() != null) {
+                    releaseCntMap.merge(fileDto.getFileHash(), 1, Integer::sum);
+                    blobPathMap.putIfAbsent(fileDto.getFileHash(), fullPath);
+                } else {
+                    tombstoneList.add(FileTombstoneDto.builder().filePath(fullPath).build());
+                }
+            }
+
+            if (!releaseCntMap.isEmpty()) {
+                List<FileBlobDto> fileBlobList = new ArrayList<>();
+                for (Map.Entry<String, Integer> entry : releaseCntMap.entrySet()) {
+                    FileBlobDto fileBlobDto = new FileBlobDto();
+                    fileBlobDto.setBlobHash(entry.getKey());
+                    fileBlobDto.setRefCnt(entry.getValue());
+                    fileBlobList.add(fileBlobDto);
+                }
+                fileMapper.updateFileBlobRefCntDecreaseBatch(fileBlobList);
+
+                List<String> unreferencedList = fileMapper.selectListFileBlobUnreferenced(new ArrayList<>(releaseCntMap.keySet()));
+                if (!unreferencedList.isEmpty()) {
+                    fileMapper.deleteFileBlobUnreferencedBatch(unreferencedList);
+                    for (String blobHash : unreferencedList) {
+                        tombstoneList.add(FileTombstoneDto.builder()
+                                .blobHash(blobHash)
+                                .filePath(blobPathMap.get(blobHash))
+                                .build());
+                    }
+                }
+            }
+            fileTombstoneWorker.enqueue(tombstoneList);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        }
+    }
 
-            storedFileName = System.currentTimeMillis() + "_" + UUID.randomUUID() + ext;
+    /**
+     * 영상 원본의 파생 파일 정보/후처리 작업 삭제 후 파생 파일 목록 반환
+     */
+    private List<FileDto> releaseVideoDerivatives(List<FileDto> fileList) throws ServiceException {
+        List<String> videoIdList = new ArrayList<>();
+        for (FileDto fileDto : fileList) {
+            if ("Y".equals(fileDto.getVideoYn()) && fileDto.getDerivType() == null) {
+                videoIdList.add(fileDto.getFileId());
+            }
+        }
+        List<FileDto> derivList = new ArrayList<>();
+        if (videoIdList.isEmpty()) {
+            return derivList;
+        }
+        try {
+            for (int i = 0; i < videoIdList.size(); i += DELETE_BATCH_SIZE) {
+                List<String> batchIdList = videoIdList.subList(i, Math.min(i + DELETE_BATCH_SIZE, videoIdList.size()));
+                fileMapper.deleteFileVideoByIdList(batchIdList);
+                List<FileDto> batchDerivList = fileMapper.selectListFileVideoDerivative(batchIdList, null);
+                List<String> derivIdList = new ArrayList<>();
+                for (FileDto deriv : batchDerivList) {
+                    derivIdList.add(deriv.getFileId());
+                }
+                for (int j = 0; j < derivIdList.size(); j += DELETE_BATCH_SIZE) {
+                    fileMapper.deleteFileInfoByIdList(derivIdList.subList(j, Math.min(j + DELETE_BATCH_SIZE, derivIdList.size())));
+                }
+                derivList.addAll(batchDerivList);
+            }
+            return derivList;
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        }
+    }
 
-             tmpPath = uploadDir.resolve(storedFileName + ".tmp");
-             finalPath = uploadDir.resolve(storedFileName);
+    /**
+     * 임시 저장 파일 -> 등록용 FileDto
+     */
+    private FileDto toFileDto(StagedFileDto stagedFile, String fileId, String videoYn, String typeNm) {
+        FileDto fileDto = new FileDto();
+        fileDto.setRealFileNm(stagedFile.getOriginalFileName());
+        fileDto.setFileNm(stagedFile.getStoredFileName());
+        fileDto.setExt(stagedFile.getContentType());
+        fileDto.setTargId(fileId);
+        fileDto.setVideoYn(FileVideoPipeline.isVideoContentType(stagedFile.getContentType()) ? "Y" : videoYn);
+        fileDto.setFilePath(stagedFile.getUploadDir());
+        fileDto.setTypeNm(typeNm);
+        fileDto.setFileHash(stagedFile.getFileHash());
+        return fileDto;
+    }
 
-            log.info("Saving temporary upload to: {}", tmpPath.toString());
+    /**
+     * 게시글 첨부파일이 포함된 경우 대상 아이디로 변경 이벤트 발행 (게시글 캐시 무효화)
+     */
+    private void publishAttachChanged(List<FileDto> fileList) {
+        Set<String> targIdSet = new LinkedHashSet<>();
+        for (FileDto fileDto : fileList) {
+            if (FileAttachChangedEvent.TYPE_NM.equals(fileDto.getTypeNm())
+                    && fileDto.getTargId() != null && !"0".equals(fileDto.getTargId())) {
+                targIdSet.add(fileDto.getTargId());
+            }
+        }
+        if (!targIdSet.isEmpty()) {
+            eventPublisher.publishEvent(new FileAttachChangedEvent(new ArrayList<>(targIdSet)));
+        }
+    }
 
-            // 3) 임시 저장
-            file.transferTo(tmpPath.toFile());
+    /**
+     * 임시 저장 파일 정리
+     */
+    public void discardStagedFiles(List<StagedFileDto> stagedList) {
+        if (stagedList == null) {
+            return;
+        }
+        for (StagedFileDto stagedFile : stagedList) {
+            try {
+                Files.deleteIfExists(stagedFile.getTmpPath());
+            } catch (Exception ex) {
+                log.warn("Failed to cleanup tmp file {}", stagedFile.getTmpPath(), ex);
+            }
+        }
+        discardPushedFiles(stagedList);
+    }
+
+    /**
+     * 원격 저장소에 미리 올린 파일 삭제 대기 등록 (등록 실패/취소 시)
+     * - 같은 내용의 blob 이 등록되어 있으면 FileTombstoneWorker 에서 유지
+     */
+    public void discardPushedFiles(List<StagedFileDto> stagedList) {
+        List<FileTombstoneDto> tombstoneList = new ArrayList<>();
+        for (StagedFileDto stagedFile : stagedList) {
+            if (stagedFile.getPushedPath() != null) {
+                tombstoneList.add(FileTombstoneDto.builder()
+                        .blobHash(stagedFile.getFileHash())
+                        .filePath(stagedFile.getPushedPath())
+                        .build());
+                stagedFile.setPushedPath(null);
+            }
+        }
+        if (!tombstoneList.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> fileTombstoneWorker.enqueue(tombstoneList));
+            } catch (DataAccessException | ServiceException e) {
+                log.warn("Failed to enqueue pushed file cleanup {}", tombstoneList, e);
+            }
+        }
+    }
+
+    /**
+     * 임시 저장된 파일을 원격 저장소의 컨텐츠 주소 위치에 미리 올린다. (트랜잭션 밖에서 호출)
+     * - 원격 업로드가 DB 커넥션/행 잠금을 잡지 않도록 메타 등록 트랜잭션 전에 수행
+     * - 이미 있으면 올리지 않고, 로컬 저장소는 이동(rename)만 하므로 saveStagedFiles 에서 처리
+     * - 이후 등록이 실패하면 discardStagedFiles 에서 삭제 대기 등록
+     */
+    public void pushStagedFiles(List<StagedFileDto> stagedList) throws ServiceException {
+        if (fileStorage.isLocal() || stagedList == null) {
+            return;
+        }
+        try {
+            for (StagedFileDto stagedFile : stagedList) {
+                String blobPath = stagedFile.getUploadDir() + fileLayout.shardPath(stagedFile.getFileHash()) + stagedFile.getFileHash();
+                String key = fileStorage.keyOf(Paths.get(blobPath));
+                if (fileStorage.stat(key) == null) {
+                    fileStorage.store(stagedFile.getTmpPath(), key, stagedFile.getContentType());
+                    stagedFile.setPushedPath(blobPath);
+                    log.info("Stored uploaded file: {}:{}", fileStorage.getType(), key);
+                }
+            }
+        } catch (IOException e) {
+            log.error("File storage error during upload", e);
+            throw new ServiceException("파일 저장 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 저장 파일명 생성 및 디렉토리 준비
+     */
+    public StagedFileDto newStagedFile(String originalFileName, String contentType, String savePath) throws ServiceException {
+        if (savePath == null || savePath.isBlank()) {
+            throw new ServiceException("저장할 파일경로가 없습니다.");
+        }
+        try {
+            // 디렉토리 준비 (절대 경로로 정규화)
+            Path uploadDir = Paths.get(savePath).toAbsolutePath().normalize();
+            Files.createDirectories(uploadDir);
+
+            String ext = "";
+            int idx = originalFileName.lastIndexOf('.');
+            if (idx >= 0) ext = originalFileName.substring(idx);
+            String storedFileName = System.currentTimeMillis() + "_" + UUID.randomUUID() + ext;
 
-            // 4) DB 메타 저장 (트랜잭션 내부)
             // ensure stored file path stored has trailing separator to match reqGetFileInfo usage
             String savePathWithSep = uploadDir.toString();
             if (!savePathWithSep.endsWith(File.separator)) savePathWithSep = savePathWithSep + File.separator;
 
-            FileDto fileDto = saveFileMetaTransactional(fileId, originalFileName, storedFileName, file.getContentType(), savePathWithSep, videoYn, typeNm);
-            if (fileDto == null) {
-                // DB 저장 실패 -> 임시파일 삭제
-                log.warn("DB meta insert failed, deleting tmp file: {}", tmpPath);
-                Files.deleteIfExists(tmpPath);
-                return null;
+            return StagedFileDto.builder()
+                    .originalFileName(originalFileName)
+                    .storedFileName(storedFileName)
+                    .contentType(contentType)
+                    .uploadDir(savePathWithSep)
+                    .tmpPath(uploadDir.resolve(storedFileName + ".tmp"))
+                    .finalPath(uploadDir.resolve(storedFileName))
+                    .build();
+        } catch (IOException e) {
+            log.error("upload directory error for path={}", savePath, e);
+            throw new ServiceException(e.getMessage());
+        }
+    }
+
+    /**
+     * 스트리밍 업로드
+     * - 요청 본문의 multipart 파트를 컨테이너 임시파일 없이 최종 디렉토리의 .tmp 로 바로 기록
+     * - 기록과 동시에 크기/SHA-256 계산, DB 저장 후 rename
+     * - 파일 파트보다 앞선 폼 필드(targId, typeNm, videoYn)로 대상 지정 (기본값: 게시판 컨텐츠 업로드)
+     * - spring.servlet.multipart 제한이 적용되지 않으므로 요청/파일 크기, 파트 수, 파트 헤더 크기, 폼 필드 크기를 직접 제한
+     */
+    public List<Map<String, Object>> reqPostFileUploadStream(HttpServletRequest request) throws ServiceException {
+        if (!JakartaServletFileUpload.isMultipartContent(request)) {
+            throw new ServiceException("multipart 요청이 아닙니다.");
+        }
+        List<Map<String, Object>> resultList = new ArrayList<>();
+        String targId = "0";
+        String typeNm = "";
+        String videoYn = "N";
+        try {
+            JakartaServletFileUpload upload = new JakartaServletFileUpload();
+            upload.setSizeMax(streamMaxRequestSize);
+            upload.setFileSizeMax(streamMaxSize);
+            upload.setFileCountMax(streamMaxPartCount);
+            upload.setPartHeaderSizeMax(streamMaxPartHeaderSize);
+            FileItemInputIterator iterator = upload.getItemIterator(request);
+            while (iterator.hasNext()) {
+                FileItemInput item = iterator.next();
+                if (item.isFormField()) {
+                    String value = readFormField(item);
+                    switch (item.getFieldName()) {
+                        case "targId" -> targId = value;
+                        case "typeNm" -> typeNm = value;
+                        case "videoYn" -> videoYn = value;
+                        default -> log.debug("ignore form field: {}", item.getFieldName());
+                    }
+                    continue;
+                }
+                if (item.getName() == null || item.getName().isBlank()) {
+                    continue;
+                }
+                FileDto fileDto = fileUploadStream(item.getInputStream(), item.getName(), item.getContentType(), targId, communityPath, videoYn, typeNm);
+                Map<String, Object> resultMap = new HashMap<>();
+                if (fileDto != null) {
+                    resultMap.put("filename", fileDto.getRealFileNm());
+                    resultMap.put("uploaded", "1");
+                    resultMap.put("url", "/api/file?fileId=" + fileDto.getFileId());
+                    resultMap.put("size", fileDto.getFileSize());
+                    resultMap.put("sha256", fileDto.getFileHash());
+                } else {
+                    resultMap.put("filename", item.getName());
+                    resultMap.put("uploaded", "0");
+                }
+                resultList.add(resultMap);
             }
+            return resultList;
+        } catch (IOException e) {
+            log.error("reqPostFileUploadStream error", e);
+            throw new ServiceException("파일 저장 실패: " + e.getMessage());
+        }
+    }
 
-            // 5) tmp -> final 이동
-            Files.move(tmpPath, finalPath, StandardCopyOption.REPLACE_EXISTING);
-            log.info("Moved uploaded file to final location: {}", finalPath.toString());
+    /**
+     * 폼 필드 값 읽기 (최대 크기 초과 시 예외)
+     */
+    private String readFormField(FileItemInput item) throws IOException {
+        try (InputStream inputStream = new LimitedInputStream(item.getInputStream(), streamMaxFieldSize + 1L)) {
+            byte[] value = inputStream.readAllBytes();
+            if (value.length > streamMaxFieldSize) {
+                throw new ServiceException("폼 필드 값이 너무 깁니다: " + item.getFieldName());
+            }
+            return new String(value, StandardCharsets.UTF_8);
+        }
+    }
 
-            return fileDto;
+    /**
+     * 입력 스트림을 최종 디렉토리에 기록 (NIO 채널, .tmp -> rename)
+     */
+    private FileDto fileUploadStream(InputStream inputStream,
+                                     String fileName,
+                                     String contentType,
+                                     String fileId,
+                                     String savePath,
+                                     String videoYn,
+                                     String typeNm) throws ServiceException {
+        StagedFileDto stagedFile = stageStream(inputStream, fileName, contentType, savePath);
+        try {
+            List<FileDto> fileList = transactionTemplate.execute(status -> saveStagedFiles(List.of(stagedFile), fileId, videoYn, typeNm));
+            log.info("Streamed upload to final location: {} ({} bytes)", stagedFile.getFinalPath(), stagedFile.getFileSize());
+            return (fileList == null || fileList.isEmpty()) ? null : fileList.get(0);
+        } catch (ServiceException e) {
+            discardStagedFiles(List.of(stagedFile));
+            throw e;
+        }
+    }
 
-        } catch (IOException ioe) {
-            log.error("File I/O error during upload", ioe);
-            // cleanup tmp file if exists
-            try { if (tmpPath != null) Files.deleteIfExists(tmpPath); } catch (Exception ex) { log.warn("Failed to cleanup tmp file", ex); }
-            throw new ServiceException("파일 저장 실패: " + ioe.getMessage());
-        } catch (DataAccessException dae) {
-            log.error("DB error during file upload", dae);
-            try { if (tmpPath != null) Files.deleteIfExists(tmpPath); } catch (Exception ex) { log.warn("Failed to cleanup tmp file", ex); }
-            throw new ServiceException("DB 저장 실패: " + dae.getMessage());
-        } catch (Exception e) {
-            log.error("Unexpected error in fileUpload", e);
-            try { if (tmpPath != null) Files.deleteIfExists(tmpPath); } catch (Exception ex) { log.warn("Failed to cleanup tmp file", ex); }
-            throw new ServiceException(e.getMessage());
+    /**
+     * 입력 스트림을 파일 채널로 기록하면서 해시 계산, 기록한 byte 수 반환
+     */
+    private long writeStream(InputStream inputStream, Path target, MessageDigest digest) throws IOException {
+        try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(inputStream, digest));
+             FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, STREAM_CHUNK_SIZE)) > 0) {
+                position += transferred;
+                if (position > streamMaxSize) {
+                    throw new ServiceException("업로드 가능한 파일 크기를 초과하였습니다.");
+                }
+            }
+            return position;
         }
     }
 
@@ -176,66 +774,289 @@ public class FileService {
     }
 
     /**
-     * 파일 조회 (리소스 반환)
+     * 게시글 ID 목록에 대한 첨부파일을 한 번에 조회하여 targId 기준으로 묶는다.
+     */
+    public Map<String, List<FileDto>> reqGetFileListGroupByTargId(List<String> targIdList) throws ServiceException {
+        Map<String, List<FileDto>> fileListMap = new HashMap<>();
+        if (targIdList == null || targIdList.isEmpty()) {
+            return fileListMap;
+        }
+        for (FileDto fileDto : reqGetFileListByTargIdList(targIdList)) {
+            fileListMap.computeIfAbsent(fileDto.getTargId(), k -> new ArrayList<>()).add(fileDto);
+        }
+        return fileListMap;
+    }
+
+    /**
+     * 게시글 ID 목록에 대한 첨부파일 목록 조회
      */
-    public ResponseEntity<Resource> reqGetFileInfo(FileDto fileDto) throws ServiceException {
+    public List<FileDto> reqGetFileListByTargIdList(List<String> targIdList) throws ServiceException {
+        if (targIdList == null || targIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
         try {
-            FileDto tmpFileDto = fileMapper.reqGetFileInfo(fileDto);
-            if (tmpFileDto != null) {
-                String path = tmpFileDto.getFilePath() + tmpFileDto.getFileNm();
-                Path filePath = Paths.get(path);
-                if (Files.exists(filePath)) {
-                    Resource resource = new UrlResource(filePath.toUri());
-                    if (resource != null) {
-                        return ResponseEntity.ok()
-                                .header(HttpHeaders.CONTENT_TYPE, tmpFileDto.getExt())
-                                .body(resource);
+            return fileMapper.reqGetFileListByTargIdList(targIdList);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        }
+    }
+
+    /**
+     * 파일 조회 (inline 전송, Range 지원)
+     */
+    public void reqGetFileInfo(FileDto fileDto,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws ServiceException {
+        writeFile(fileDto, false, true, request, response);
+    }
+
+    /**
+     * 파일 다운로드 (attachment 전송, Range 지원)
+     */
+    public void fileDownload(FileDto fileDto,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws ServiceException {
+        writeFile(fileDto, true, true, request, response);
+    }
+
+    /**
+     * 파일 메타 조회 후 응답 전송
+     *
+     * @param allowRedirect 저장소 서명 URL redirect 허용 여부 (상대 경로를 참조하는 HLS 재생 목록은 불가)
+     */
+    private void writeFile(FileDto fileDto,
+                           boolean attachment,
+                           boolean allowRedirect,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws ServiceException {
+        long startTime = System.nanoTime();
+        String disposition = attachment ? "attachment" : "inline";
+        try {
+            FileDto tmpFileDto = fileMetaCache.get(fileDto.getFileId(), fileId -> fileMapper.reqGetFileInfo(fileDto));
+            if (tmpFileDto == null) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            if (!attachment) {
+                // 소용량 inline 파일은 메모리 캐시 우선
+                FileByteCache.CachedFile cachedFile = fileByteCache.get(tmpFileDto.getFileId());
+                if (cachedFile != null) {
+                    setCacheControl(attachment, response);
+                    long bytes = fileStreamWriter.write(cachedFile.duplicate(), cachedFile.lastModified(), tmpFileDto, request, response);
+                    fileMetrics.recordDownload(disposition, "memory", System.nanoTime() - startTime, bytes);
+                    return;
+                }
+            }
+            String key = fileStorage.keyOf(Paths.get(tmpFileDto.getFilePath() + tmpFileDto.getFileNm()));
+            if (redirectEnabled && allowRedirect) {
+                URI url = fileStorage.presignedUrl(key, tmpFileDto.getExt(), attachment ? tmpFileDto.getRealFileNm() : null,
+                        Duration.ofSeconds(redirectTtlSec));
+                if (url != null) {
+                    // 서명 URL 은 만료되므로 redirect 응답은 캐시하지 않음
+                    response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+                    if (attachment) {
+                        response.setHeader(HttpHeaders.SET_COOKIE, "fileDownload=true; path=/");
                     }
-                    return ResponseEntity.notFound().build();
-                } else {
-                    return ResponseEntity.notFound().build();
+                    response.sendRedirect(url.toString());
+                    fileMetrics.recordDownload(disposition, "redirect", System.nanoTime() - startTime, 0);
+                    return;
                 }
+            }
+            FileStorage.StoredObject storedObject = fileStorage.stat(key);
+            if (storedObject == null) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            setCacheControl(attachment, response);
+            if (!attachment && tmpFileDto.getFileId() != null && fileByteCache.accepts(storedObject.size())) {
+                FileByteCache.CachedFile cachedFile = loadByteCache(tmpFileDto.getFileId(), key, storedObject);
+                if (cachedFile != null) {
+                    long bytes = fileStreamWriter.write(cachedFile.duplicate(), cachedFile.lastModified(), tmpFileDto, request, response);
+                    fileMetrics.recordDownload(disposition, "memory", System.nanoTime() - startTime, bytes);
+                    return;
+                }
+            }
+            if (attachment) {
+                response.setHeader(HttpHeaders.SET_COOKIE, "fileDownload=true; path=/");
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"%s\"", tmpFileDto.getRealFileNm()));
+            }
+            if (fileStorage.isLocal()) {
+                long bytes = fileStreamWriter.write(fileStorage.localPath(key), tmpFileDto, request, response);
+                fileMetrics.recordDownload(disposition, "disk", System.nanoTime() - startTime, bytes);
             } else {
-                return ResponseEntity.notFound().build();
+                long bytes = fileStreamWriter.write(fileStorage, key, storedObject, tmpFileDto, request, response);
+                fileMetrics.recordDownload(disposition, fileStorage.getType(), System.nanoTime() - startTime, bytes);
+            }
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        } catch (IOException e) {
+            if (response.isCommitted()) {
+                // 클라이언트 연결 종료 등 전송 중단
+                log.debug("file transfer aborted: {}", e.getMessage());
+                return;
             }
-        } catch (DataAccessException | MalformedURLException e) {
             log.error(e.getMessage(), e);
             throw new ServiceException(e.getMessage());
         }
     }
 
     /**
-     * 파일 다운로드
+     * 저장 파일 내용을 메모리 캐시에 적재
+     */
+    private FileByteCache.CachedFile loadByteCache(String fileId, String key, FileStorage.StoredObject storedObject) throws IOException {
+        if (fileStorage.isLocal()) {
+            return fileByteCache.load(fileId, fileStorage.localPath(key));
+        }
+        try (ReadableByteChannel source = Channels.newChannel(fileStorage.openStream(key, 0, storedObject.size()))) {
+            return fileByteCache.load(fileId, source, storedObject.size(), storedObject.lastModified());
+        }
+    }
+
+    /**
+     * 이미지 썸네일 조회 (없으면 생성 후 저장)
+     * - 생성 스레드풀 포화/시간 초과 시 503, 이미지가 아니면 415
      */
-    public ResponseEntity<Resource> fileDownload(FileDto fileDto) throws ServiceException {
+    public void reqGetFileThumb(String fileId,
+                                int width,
+                                int height,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws ServiceException {
+        long startTime = System.nanoTime();
         try {
-            FileDto tmpFileDto = fileMapper.reqGetFileInfo(fileDto);
-            if (tmpFileDto != null) {
-                String path = tmpFileDto.getFilePath() + tmpFileDto.getFileNm();
-                Path filePath = Paths.get(path);
-                if (Files.exists(filePath)) {
-                    Resource resource = new UrlResource(filePath.toUri());
-                    if (resource != null) {
-                        return ResponseEntity.ok()
-                                .header(HttpHeaders.CONTENT_TYPE, tmpFileDto.getExt())
-                                .header(HttpHeaders.SET_COOKIE, "fileDownload=true; path=/")
-                                .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
-                                .header(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"%s\"", tmpFileDto.getRealFileNm()))
-                                .body(resource);
+            if (!fileThumbnailGenerator.isValidSize(width, height)) {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+                return;
+            }
+            FileDto tmpFileDto = fileMetaCache.get(fileId, fileMapper::selectOneFileInfo);
+            if (tmpFileDto == null) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            if (!fileThumbnailGenerator.isSupported(tmpFileDto.getExt())) {
+                response.sendError(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE);
+                return;
+            }
+            String key = fileStorage.keyOf(Paths.get(tmpFileDto.getFilePath() + tmpFileDto.getFileNm()));
+            Path thumbPath = fileThumbnailGenerator.thumbPath(fileStorage.localPath(key), tmpFileDto.getExt(), width, height);
+            try {
+                if (!Files.isRegularFile(thumbPath)) {
+                    // 생성 전에만 원본 확인 (원격 저장소 조회 최소화)
+                    if (fileStorage.stat(key) == null) {
+                        response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                        return;
                     }
-                    return ResponseEntity.notFound().build();
+                    thumbPath = fileThumbnailGenerator.getOrCreate(fileStorage, key, tmpFileDto.getExt(), width, height);
+                }
+            } catch (RejectedExecutionException | TimeoutException e) {
+                log.warn("thumbnail busy: fileId={}, {}x{}", fileId, width, height);
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                return;
+            }
+            if (thumbPath == null) {
+                response.sendError(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE);
+                return;
+            }
+
+            FileDto thumbDto = new FileDto();
+            thumbDto.setFileId(tmpFileDto.getFileId());
+            thumbDto.setExt(fileThumbnailGenerator.thumbContentType(tmpFileDto.getExt()));
+            if (tmpFileDto.getFileHash() != null) {
+                thumbDto.setFileHash(tmpFileDto.getFileHash() + "-" + width + "x" + height);
+            }
+            setCacheControl(false, response);
+            long bytes = fileStreamWriter.write(thumbPath, thumbDto, request, response);
+            fileMetrics.recordDownload("thumb", "disk", System.nanoTime() - startTime, bytes);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        } catch (IOException e) {
+            if (response.isCommitted()) {
+                log.debug("file transfer aborted: {}", e.getMessage());
+                return;
+            }
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        }
+    }
+
+    /**
+     * 영상 후처리 상태 및 파생 파일 url 조회
+     */
+    public Map<String, Object> reqGetFileVideo(String fileId) throws ServiceException {
+        try {
+            FileVideoDto fileVideoDto = fileMapper.selectOneFileVideo(fileId);
+            Map<String, Object> resultMap = new HashMap<>();
+            resultMap.put("status", fileVideoDto == null ? "NONE" : fileVideoDto.getStatus());
+            List<FileDto> derivList = fileMapper.selectListFileVideoDerivative(List.of(fileId),
+                    List.of(FileVideoPipeline.DERIV_POSTER, FileVideoPipeline.DERIV_HLS));
+            for (FileDto deriv : derivList) {
+                if (FileVideoPipeline.DERIV_POSTER.equals(deriv.getDerivType())) {
+                    resultMap.put("posterUrl", "/api/file?fileId=" + deriv.getFileId());
                 } else {
-                    return ResponseEntity.notFound().build();
+                    resultMap.put("hlsUrl", "/api/file/" + fileId + "/hls/" + deriv.getFileNm());
                 }
-            } else {
-                return ResponseEntity.notFound().build();
             }
-        } catch (DataAccessException | MalformedURLException e) {
+            return resultMap;
+        } catch (DataAccessException e) {
             log.error(e.getMessage(), e);
             throw new ServiceException(e.getMessage());
         }
     }
 
+    /**
+     * HLS 재생 목록/구간 파일 전송
+     * - 재생 목록의 구간 파일은 상대 경로이므로 같은 경로 아래에서 저장 파일명으로 조회
+     */
+    public void reqGetFileHls(String fileId,
+                              String fileNm,
+                              HttpServletRequest request,
+                              HttpServletResponse response) throws ServiceException {
+        try {
+            FileDto deriv = fileMapper.selectOneFileVideoDerivative(fileId, fileNm);
+            if (deriv == null || FileVideoPipeline.DERIV_POSTER.equals(deriv.getDerivType())) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            writeFile(deriv, false, !FileVideoPipeline.DERIV_HLS.equals(deriv.getDerivType()), request, response);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        } catch (IOException e) {
+            log.error(e.getMessage(), e);
+            throw new ServiceException(e.getMessage());
+        }
+    }
+
+    /**
+     * 파일 응답 Cache-Control 설정
+     * - 인증이 필요한 응답이므로 공유 캐시(CDN/프록시)에는 저장하지 않도록 private
+     * - 삭제/권한 변경이 반영되도록 짧은 max-age 후 ETag 로 재검증 (304)
+     * - 다운로드는 설정에 따라 private 캐시 또는 기존과 같이 no-store
+     */
+    private void setCacheControl(boolean attachment, HttpServletResponse response) {
+        if (!attachment || downloadCacheable) {
+            CacheControl cacheControl = cacheMaxAge > 0
+                    ? CacheControl.maxAge(cacheMaxAge, TimeUnit.SECONDS).cachePrivate()
+                    : CacheControl.noCache().cachePrivate();
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        } else {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate");
+        }
+    }
+
+    /**
+     * 파일 메타정보 캐시 통계
+     */
+    public Map<String, Object> reqGetFileCacheStats() {
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("meta", fileMetaCache.getStats());
+        resultMap.put("bytes", fileByteCache.getStats());
+        return resultMap;
+    }
+
     /**
      * 게시판 내 파일 업로드 (외부에서 호출되는 엔드포인트에서 사용)
      * - 트랜잭션은 내부 DB 저장 메서드에서만 적용됩니다.
@@ -261,17 +1082,69 @@ public class FileService {
         }
     }
 
+    /**
+     * 본문에 삽입된 컨텐츠 업로드 파일 참조를 게시글 기준으로 갱신한다. (게시글 등록/수정 트랜잭션에서 호출)
+     * - 참조는 lf_board_content_file 에 (게시글, 파일) 단위로 기록, 여러 게시글이 같은 파일을 참조할 수 있음
+     * - 본문에서 빠진 파일은 참조만 삭제, 참조가 하나도 없는 파일이 고아 파일 정리 대상
+     */
+    public void attachContentFiles(String boardId, List<String> fileIdList) throws ServiceException {
+        try {
+            fileMapper.deleteBoardContentFile(List.of(boardId), fileIdList);
+            if (!fileIdList.isEmpty()) {
+                fileMapper.insertBoardContentFile(boardId, fileIdList);
+            }
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            throw new ServiceException(e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 본문의 컨텐츠 업로드 파일 참조를 삭제한다. (게시글 삭제 트랜잭션에서 호출)
+     * - 다른 게시글의 참조가 남아 있지 않은 파일만 다음 고아 파일 정리 시 삭제
+     */
+    public void detachContentFiles(List<String> boardIdList) throws ServiceException {
+        try {
+            fileMapper.deleteBoardContentFile(boardIdList, null);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            throw new ServiceException(e.getMessage());
+        }
+    }
+
     /**
      * 파일 목록을 삭제한다.
      */
     @Transactional(rollbackFor = {RuntimeException.class})
     public Boolean reqDeleteFileList(String delFileList) throws ServiceException {
         try {
+            Set<String> fileIdSet = new LinkedHashSet<>();
             for (String fileId : delFileList.split(",")) {
-                if (!reqDeleteFileInfo(fileId))
-                    return false;
+                if (!fileId.isBlank()) {
+                    fileIdSet.add(fileId.trim());
+                }
+            }
+            if (fileIdSet.isEmpty()) {
+                return false;
             }
-            return true;
+
+            // IN 목록 크기 제한을 위해 DELETE_BATCH_SIZE 단위로 조회/삭제
+            List<String> fileIdList = new ArrayList<>(fileIdSet);
+            int deletedCnt = 0;
+            for (int i = 0; i < fileIdList.size(); i += DELETE_BATCH_SIZE) {
+                List<String> batchIdList = fileIdList.subList(i, Math.min(i + DELETE_BATCH_SIZE, fileIdList.size()));
+                List<FileDto> fileList = fileMapper.selectListFileInfoByIdList(batchIdList);
+                if (fileList.isEmpty()) {
+                    continue;
+                }
+                List<String> foundIdList = new ArrayList<>();
+                for (FileDto fileDto : fileList) {
+                    foundIdList.add(fileDto.getFileId());
+                }
+                deletedCnt += fileMapper.deleteFileInfoByIdList(foundIdList);
+                releaseFiles(fileList);
+            }
+            return deletedCnt == fileIdList.size();
         } catch (DataAccessException e) {
             log.error(e.getMessage(), e);
             throw new ServiceException();
@@ -283,19 +1156,13 @@ public class FileService {
      */
     public Boolean reqDeleteFileInfo(String fileId) throws ServiceException {
         try {
-            FileDto tmpFileDto = fileMapper.selectOneFileInfo(fileId);
+            FileDto tmpFileDto = fileMetaCache.get(fileId, fileMapper::selectOneFileInfo);
             if (tmpFileDto == null) {
                 return false;
             }
             int result = fileMapper.deleteFileInfo(fileId);
             if (result > 0) {
-                if (tmpFileDto != null) {
-                    String filePath = tmpFileDto.getFilePath() + tmpFileDto.getFileNm();
-                    File file = new File(filePath);
-                    if (file.exists()) {
-                        fileDelete(file);
-                    }
-                }
+                releaseFiles(List.of(tmpFileDto));
                 return true;
             } else {
                 return false;
@@ -305,17 +1172,4 @@ public class FileService {
             throw new ServiceException();
         }
     }
-
-    /**
-     * 파일을 삭제한다. (synchronized로 TOCTOU 방지)
-     */
-    private synchronized void fileDelete(File file) {
-        if (file != null) {
-            try {
-                Files.deleteIfExists(file.toPath());
-            } catch (Exception e) {
-                log.warn("fileDelete failed for {}", file.getAbsolutePath(), e);
-            }
-        }
-    }
 }
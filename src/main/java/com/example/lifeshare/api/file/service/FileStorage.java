@@ -0,0 +1,89 @@
+package com.example.lifeshare.api.file.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 파일 저장소 인터페이스
+ * - file.storage.type 설정으로 구현 선택 (local: 로컬 파일시스템, s3: S3 호환 오브젝트 스토리지)
+ * - DB 의 file_path + file_nm 은 기존과 같이 업로드 디렉토리 기준 경로를 유지하고, 업로드 디렉토리 기준 상대 경로를 저장소 키로 사용
+ * - 업로드 임시파일, 썸네일 등 파생 파일은 저장소 종류와 관계없이 로컬 업로드 디렉토리에 둔다.
+ *
+ * @author minyoung
+ * @version 1.0
+ **/
+public interface FileStorage {
+
+    /**
+     * 저장소 종류 (local / s3)
+     */
+    String getType();
+
+    /**
+     * 로컬 파일시스템 저장소 여부 (sendfile 전송, 디렉토리 순회 정리, 레이아웃 이관 가능)
+     */
+    boolean isLocal();
+
+    /**
+     * 업로드 디렉토리 (절대 경로)
+     */
+    Path getRoot();
+
+    /**
+     * 저장 파일 경로 -> 저장소 키 ('/' 구분, 업로드 디렉토리 밖의 경로는 절대 경로 그대로)
+     */
+    default String keyOf(Path filePath) {
+        Path normalized = filePath.toAbsolutePath().normalize();
+        Path relative = normalized.startsWith(getRoot()) ? getRoot().relativize(normalized) : normalized;
+        return relative.toString().replace(File.separatorChar, '/');
+    }
+
+    /**
+     * 저장소 키에 대응하는 로컬 경로 (로컬 저장소는 원본 위치, 그 외 저장소는 파생 파일 위치)
+     */
+    default Path localPath(String key) {
+        return getRoot().resolve(key.replace('/', File.separatorChar)).normalize();
+    }
+
+    /**
+     * 저장 파일 정보 조회 (없으면 null)
+     */
+    StoredObject stat(String key) throws IOException;
+
+    /**
+     * 로컬 임시파일을 저장소로 이동한다. (성공 시 원본 임시파일은 남지 않음)
+     */
+    void store(Path source, String key, String contentType) throws IOException;
+
+    /**
+     * 구간 읽기 스트림
+     *
+     * @param start 시작 위치
+     * @param count 읽을 크기 (음수면 끝까지)
+     */
+    InputStream openStream(String key, long start, long count) throws IOException;
+
+    /**
+     * 저장 파일 삭제 (없으면 무시)
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * 다운로드용 서명 URL (미지원 저장소는 null)
+     *
+     * @param contentType      응답 컨텐츠 타입
+     * @param downloadFileName attachment 파일명 (null 이면 inline)
+     * @param ttl              URL 유효 시간
+     */
+    URI presignedUrl(String key, String contentType, String downloadFileName, Duration ttl);
+
+    /**
+     * 저장 파일 정보
+     */
+    record StoredObject(long size, long lastModified) {
+    }
+}
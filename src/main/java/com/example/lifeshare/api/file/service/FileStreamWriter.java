@@ -0,0 +1,405 @@
+package com.example.lifeshare.api.file.service;
+
+import com.example.lifeshare.api.file.model.FileDto;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 파일 응답 전송 클래스
+ * - HTTP Range (단일/다중) 요청에 대해 206 Partial Content 응답
+ * - Content-Length / ETag / Last-Modified / Accept-Ranges 헤더 설정
+ * - If-None-Match / If-Modified-Since 조건부 요청에 304 Not Modified 응답
+ * - Tomcat sendfile 지원 시 커널 zero-copy 전송, 미지원 시 FileChannel.transferTo 로 전송
+ * - 메모리(캐시) 내용, 원격 저장소 파일도 동일한 헤더/Range 규칙으로 전송
+ *
+ * @author minyoung
+ * @version 1.0
+ **/
+@Slf4j
+@Component
+public class FileStreamWriter {
+
+    /**
+     * Tomcat sendfile 지원 여부 request attribute
+     */
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+
+    /**
+     * Tomcat sendfile 대상 파일 request attribute
+     */
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+
+    /**
+     * Tomcat sendfile 시작 위치 request attribute
+     */
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+
+    /**
+     * Tomcat sendfile 종료 위치(exclusive) request attribute
+     */
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * 기본 컨텐츠 타입
+     */
+    private static final String DEFAULT_CONTENT_TYPE = MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+    /**
+     * 저장소 본문 복사 버퍼 크기 (byte)
+     */
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 파일을 응답으로 전송한다.
+     *
+     * @param filePath 파일 경로
+     * @param fileDto  파일 메타 정보
+     * @param request  HttpServletRequest 객체
+     * @param response HttpServletResponse 객체
+     * @return long 전송 본문 크기 (304/416/HEAD 는 0)
+     * @throws IOException 전송 실패
+     **/
+    public long write(Path filePath,
+                      FileDto fileDto,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        long length = Files.size(filePath);
+        long lastModified = Files.getLastModifiedTime(filePath).toMillis();
+        return writeBody(new FileBody(filePath), length, lastModified, fileDto, request, response);
+    }
+
+    /**
+     * 메모리(캐시)의 파일 내용을 응답으로 전송한다.
+     *
+     * @param data         파일 내용 (position ~ limit)
+     * @param lastModified 파일 수정시각
+     * @param fileDto      파일 메타 정보
+     * @param request      HttpServletRequest 객체
+     * @param response     HttpServletResponse 객체
+     * @return long 전송 본문 크기 (304/416/HEAD 는 0)
+     * @throws IOException 전송 실패
+     **/
+    public long write(ByteBuffer data,
+                      long lastModified,
+                      FileDto fileDto,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        return writeBody(new BufferBody(data), data.remaining(), lastModified, fileDto, request, response);
+    }
+
+    /**
+     * 저장소(로컬 외)의 파일을 응답으로 전송한다. (요청 구간만 저장소에서 읽음)
+     *
+     * @param fileStorage  파일 저장소
+     * @param key          저장소 키
+     * @param storedObject 저장 파일 정보
+     * @param fileDto      파일 메타 정보
+     * @param request      HttpServletRequest 객체
+     * @param response     HttpServletResponse 객체
+     * @return long 전송 본문 크기 (304/416/HEAD 는 0)
+     * @throws IOException 전송 실패
+     **/
+    public long write(FileStorage fileStorage,
+                      String key,
+                      FileStorage.StoredObject storedObject,
+                      FileDto fileDto,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        return writeBody(new StorageBody(fileStorage, key), storedObject.size(), storedObject.lastModified(), fileDto, request, response);
+    }
+
+    /**
+     * 헤더 설정 및 Range 처리 후 본문 전송
+     */
+    private long writeBody(Body body,
+                           long length,
+                           long lastModified,
+                           FileDto fileDto,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        String eTag = buildETag(fileDto, length, lastModified);
+        String contentType = (fileDto.getExt() == null || fileDto.getExt().isBlank()) ? DEFAULT_CONTENT_TYPE : fileDto.getExt();
+        boolean headRequest = "HEAD".equalsIgnoreCase(request.getMethod());
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+
+        // If-None-Match / If-Modified-Since 일치 시 304 (본문 없음)
+        if (new ServletWebRequest(request, response).checkNotModified(eTag, lastModified)) {
+            return 0;
+        }
+
+        List<HttpRange> ranges = null;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && isIfRangeSatisfied(request, eTag, lastModified)) {
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+                long totalRangeLength = 0;
+                for (HttpRange range : ranges) {
+                    // 범위가 파일 길이를 벗어나면 IllegalArgumentException
+                    totalRangeLength += range.getRangeEnd(length) - range.getRangeStart(length) + 1;
+                }
+                // 겹치는 다중 범위로 파일을 여러 번 전송하지 않도록 범위 합계를 파일 길이로 제한
+                if (ranges.size() > 1 && totalRangeLength > length) {
+                    throw new IllegalArgumentException("total range length exceeds file length");
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return 0;
+            }
+        }
+
+        if (ranges == null || ranges.isEmpty()) {
+            // 전체 전송
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType);
+            response.setContentLengthLong(length);
+            if (headRequest) {
+                return 0;
+            }
+            body.transfer(0, length, request, response);
+            return length;
+        } else if (ranges.size() == 1) {
+            // 단일 범위
+            long start = ranges.get(0).getRangeStart(length);
+            long end = ranges.get(0).getRangeEnd(length);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(start, end, length));
+            response.setContentLengthLong(end - start + 1);
+            if (headRequest) {
+                return 0;
+            }
+            body.transfer(start, end - start + 1, request, response);
+            return end - start + 1;
+        } else {
+            // 다중 범위 (multipart/byteranges)
+            String boundary = UUID.randomUUID().toString().replace("-", "");
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setContentType("multipart/byteranges; boundary=" + boundary);
+            if (headRequest) {
+                return 0;
+            }
+            return writeMultipartRanges(body, ranges, length, contentType, boundary, response);
+        }
+    }
+
+    /**
+     * 강한 ETag 생성
+     * - 내용 해시가 있으면 해시 (업로드 후 내용이 바뀌지 않음)
+     * - 없으면 fileId + 크기 + 수정시각
+     */
+    public String buildETag(FileDto fileDto, long length, long lastModified) {
+        if (fileDto.getFileHash() != null && !fileDto.getFileHash().isBlank()) {
+            return "\"" + fileDto.getFileHash() + "\"";
+        }
+        return "\"" + fileDto.getFileId() + "-" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    /**
+     * If-Range 조건 확인 - 불일치 시 Range 를 무시하고 전체를 전송한다.
+     */
+    private boolean isIfRangeSatisfied(HttpServletRequest request, String eTag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(eTag);
+        }
+        try {
+            long ifRangeTime = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return ifRangeTime != -1 && lastModified / 1000 <= ifRangeTime / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 다중 범위 응답 본문 작성 (범위 본문 크기 합 반환)
+     */
+    private long writeMultipartRanges(Body body,
+                                      List<HttpRange> ranges,
+                                      long length,
+                                      String contentType,
+                                      String boundary,
+                                      HttpServletResponse response) throws IOException {
+        ServletOutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        long written = 0;
+        for (HttpRange range : ranges) {
+            long start = range.getRangeStart(length);
+            long end = range.getRangeEnd(length);
+            String partHeader = "\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(start, end, length) + "\r\n\r\n";
+            out.write(partHeader.getBytes(StandardCharsets.US_ASCII));
+            body.writeTo(start, end - start + 1, target);
+            written += end - start + 1;
+        }
+        out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return written;
+    }
+
+    /**
+     * Content-Range 헤더 값
+     */
+    private String contentRange(long start, long end, long length) {
+        return "bytes " + start + "-" + end + "/" + length;
+    }
+
+    /**
+     * 응답 본문 원천
+     */
+    private interface Body {
+
+        /**
+         * 단일 구간 전송 (응답 전체)
+         */
+        void transfer(long start, long count, HttpServletRequest request, HttpServletResponse response) throws IOException;
+
+        /**
+         * 지정 구간을 채널에 기록
+         */
+        void writeTo(long start, long count, WritableByteChannel target) throws IOException;
+    }
+
+    /**
+     * 파일 본문 - sendfile 지원 시 컨테이너에 위임, 미지원 시 FileChannel.transferTo
+     */
+    private static final class FileBody implements Body {
+
+        private final Path filePath;
+
+        private FileBody(Path filePath) {
+            this.filePath = filePath;
+        }
+
+        @Override
+        public void transfer(long start, long count, HttpServletRequest request, HttpServletResponse response) throws IOException {
+            if (count <= 0) {
+                return;
+            }
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+                request.setAttribute(SENDFILE_FILENAME_ATTR, filePath.toRealPath().toString());
+                request.setAttribute(SENDFILE_START_ATTR, start);
+                request.setAttribute(SENDFILE_END_ATTR, start + count);
+                return;
+            }
+            ServletOutputStream out = response.getOutputStream();
+            writeTo(start, count, Channels.newChannel(out));
+            out.flush();
+        }
+
+        @Override
+        public void writeTo(long start, long count, WritableByteChannel target) throws IOException {
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                // transferTo 는 한 번에 전체가 전송되지 않을 수 있음
+                long position = start;
+                long remaining = count;
+                while (remaining > 0) {
+                    long transferred = channel.transferTo(position, remaining, target);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    position += transferred;
+                    remaining -= transferred;
+                }
+            }
+        }
+    }
+
+    /**
+     * 메모리 본문
+     */
+    private static final class BufferBody implements Body {
+
+        private final ByteBuffer data;
+
+        private BufferBody(ByteBuffer data) {
+            this.data = data;
+        }
+
+        @Override
+        public void transfer(long start, long count, HttpServletRequest request, HttpServletResponse response) throws IOException {
+            ServletOutputStream out = response.getOutputStream();
+            writeTo(start, count, Channels.newChannel(out));
+            out.flush();
+        }
+
+        @Override
+        public void writeTo(long start, long count, WritableByteChannel target) throws IOException {
+            ByteBuffer slice = data.duplicate();
+            slice.position(slice.position() + (int) start);
+            slice.limit(slice.position() + (int) count);
+            while (slice.hasRemaining()) {
+                target.write(slice);
+            }
+        }
+    }
+
+    /**
+     * 저장소 본문 - 구간별로 저장소 스트림을 열어 복사
+     */
+    private static final class StorageBody implements Body {
+
+        private final FileStorage fileStorage;
+
+        private final String key;
+
+        private StorageBody(FileStorage fileStorage, String key) {
+            this.fileStorage = fileStorage;
+            this.key = key;
+        }
+
+        @Override
+        public void transfer(long start, long count, HttpServletRequest request, HttpServletResponse response) throws IOException {
+            if (count <= 0) {
+                return;
+            }
+            ServletOutputStream out = response.getOutputStream();
+            try (InputStream inputStream = fileStorage.openStream(key, start, count)) {
+                inputStream.transferTo(out);
+            }
+            out.flush();
+        }
+
+        @Override
+        public void writeTo(long start, long count, WritableByteChannel target) throws IOException {
+            try (ReadableByteChannel source = Channels.newChannel(fileStorage.openStream(key, start, count))) {
+                ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+                while (source.read(buffer) >= 0) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        target.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.lifeshare.api.file.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 이미지 썸네일(파생 파일) 생성 클래스
+ * - 원본 옆에 {파일명}_thumb_{w}x{h}.{jpg|png} 로 저장하고 이후 요청은 저장된 파일 사용
+ * - 원격 저장소 파일은 원본을 스트림으로 읽고 썸네일은 로컬 업로드 디렉토리에 저장
+ * - 생성은 전용 스레드풀에서 수행 (요청 스레드 보호), 같은 썸네일 동시 요청은 한 번만 생성
+ * - 원본은 ImageReader subsampling 으로 축소 디코딩하여 메모리 사용 제한
+ *
+ * @author minyoung
+ * @version 1.0
+ **/
+@Slf4j
+@Component
+public class FileThumbnailGenerator {
+
+    /**
+     * 썸네일 파일명 구분자
+     */
+    public static final String THUMB_SEPARATOR = "_thumb_";
+
+    /**
+     * 허용 썸네일 크기 ({w}x{h}) - 임의 크기 요청으로 파생 파일이 무한히 생성되지 않도록 제한
+     */
+    private final Set<String> allowedSizeSet;
+
+    /**
+     * 원본 최대 픽셀 수 (초과 시 생성하지 않음)
+     */
+    private final long maxSourcePixels;
+
+    /**
+     * 생성 대기 최대 시간 (ms)
+     */
+    private final long timeoutMs;
+
+    /**
+     * 썸네일 생성 전용 스레드풀
+     */
+    private final Executor thumbnailExecutor;
+
+    /**
+     * 생성 중인 썸네일 (경로 기준)
+     */
+    private final ConcurrentHashMap<Path, CompletableFuture<Path>> inProgress = new ConcurrentHashMap<>();
+
+    public FileThumbnailGenerator(@Value("${file.thumb.sizes:100x100,200x200,400x400,800x800}") String sizes,
+                                  @Value("${file.thumb.max-source-pixels:50000000}") long maxSourcePixels,
+                                  @Value("${file.thumb.timeout-ms:10000}") long timeoutMs,
+                                  @Qualifier("thumbnailExecutor") Executor thumbnailExecutor) {
+        Set<String> sizeSet = new HashSet<>();
+        for (String size : sizes.split(",")) {
+            if (!size.isBlank()) {
+                sizeSet.add(size.trim().toLowerCase());
+            }
+        }
+        this.allowedSizeSet = Set.copyOf(sizeSet);
+        this.maxSourcePixels = maxSourcePixels;
+        this.timeoutMs = timeoutMs;
+        this.thumbnailExecutor = thumbnailExecutor;
+    }
+
+    /**
+     * 썸네일 크기 유효성 (허용 크기 목록에 있는 경우만)
+     */
+    public boolean isValidSize(int width, int height) {
+        return allowedSizeSet.contains(width + "x" + height);
+    }
+
+    /**
+     * 썸네일 지원 여부 (컨텐츠 타입 기준)
+     */
+    public boolean isSupported(String contentType) {
+        return contentType != null && contentType.toLowerCase().startsWith("image/") && !contentType.toLowerCase().contains("svg");
+    }
+
+    /**
+     * 썸네일 컨텐츠 타입 - 투명도가 있을 수 있는 png/gif 는 png, 그 외 jpeg
+     */
+    public String thumbContentType(String contentType) {
+        String type = contentType == null ? "" : contentType.toLowerCase();
+        return type.contains("png") || type.contains("gif") ? "image/png" : "image/jpeg";
+    }
+
+    /**
+     * 썸네일 경로
+     */
+    public Path thumbPath(Path original, String contentType, int width, int height) {
+        String format = "image/png".equals(thumbContentType(contentType)) ? "png" : "jpg";
+        return original.resolveSibling(original.getFileName() + THUMB_SEPARATOR + width + "x" + height + "." + format);
+    }
+
+    /**
+     * 썸네일 조회, 없으면 생성 (생성 불가 이미지면 null)
+     *
+     * @throws java.util.concurrent.RejectedExecutionException 생성 스레드풀 포화
+     * @throws TimeoutException                                 생성 대기 시간 초과
+     */
+    public Path getOrCreate(FileStorage fileStorage, String key, String contentType, int width, int height) throws IOException, TimeoutException {
+        Path original = fileStorage.localPath(key);
+        Path thumbPath = thumbPath(original, contentType, width, height);
+        if (Files.isRegularFile(thumbPath)) {
+            return thumbPath;
+        }
+        String format = thumbPath.getFileName().toString().endsWith(".png") ? "png" : "jpg";
+
+        CompletableFuture<Path> future = inProgress.computeIfAbsent(thumbPath, target -> CompletableFuture.supplyAsync(() -> {
+            try {
+                return generate(fileStorage, key, target, format, width, height);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }, thumbnailExecutor));
+        future.whenComplete((path, ex) -> inProgress.remove(thumbPath, future));
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof IllegalStateException && e.getCause().getCause() != null
+                    ? e.getCause().getCause() : e.getCause();
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 원본의 썸네일 파일 전체 삭제
+     */
+    public void deleteDerivatives(Path original) {
+        Path dir = original.getParent();
+        if (dir == null || !Files.isDirectory(dir)) {
+            return;
+        }
+        String glob = escapeGlob(original.getFileName().toString()) + THUMB_SEPARATOR + "*";
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, glob)) {
+            for (Path thumb : stream) {
+                Files.deleteIfExists(thumb);
+            }
+        } catch (IOException e) {
+            log.warn("thumbnail delete failed for {}", original, e);
+        }
+    }
+
+    /**
+     * 썸네일 생성 - 임시 파일에 기록 후 이동
+     */
+    private Path generate(FileStorage fileStorage, String key, Path thumbPath, String format, int width, int height) throws IOException {
+        if (Files.isRegularFile(thumbPath)) {
+            return thumbPath;
+        }
+        BufferedImage source;
+        if (fileStorage.isLocal()) {
+            source = readSubsampled(fileStorage.localPath(key).toFile(), key, width, height);
+        } else {
+            try (InputStream inputStream = fileStorage.openStream(key, 0, -1)) {
+                source = readSubsampled(inputStream, key, width, height);
+            }
+        }
+        if (source == null) {
+            return null;
+        }
+
+        // 비율 유지, 확대하지 않음
+        double scale = Math.min(1.0, Math.min((double) width / source.getWidth(), (double) height / source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight,
+                "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            if (!"png".equals(format)) {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, targetWidth, targetHeight);
+            }
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        Files.createDirectories(thumbPath.getParent());
+        Path tmpPath = thumbPath.resolveSibling(thumbPath.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            if (!ImageIO.write(target, "png".equals(format) ? "png" : "jpeg", tmpPath.toFile())) {
+                return null;
+            }
+            Files.move(tmpPath, thumbPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpPath);
+        }
+        return thumbPath;
+    }
+
+    /**
+     * 원본 디코딩 - 목표 크기의 2배 이상이면 subsampling 으로 축소하여 읽음
+     *
+     * @param original File 또는 InputStream
+     */
+    private BufferedImage readSubsampled(Object original, String key, int width, int height) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxSourcePixels) {
+                    log.warn("thumbnail skipped, source too large: {} ({}x{})", key, sourceWidth, sourceHeight);
+                    return null;
+                }
+                int step = Math.max(1, Math.min(sourceWidth / (width * 2), sourceHeight / (height * 2)));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * glob 특수문자 escape
+     */
+    private static String escapeGlob(String value) {
+        return value.replaceAll("([\\\\*?\\[\\]{}])", "\\\\$1");
+    }
+}
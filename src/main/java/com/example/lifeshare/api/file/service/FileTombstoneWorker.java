@@ -0,0 +1,178 @@
+package com.example.lifeshare.api.file.service;
+
+import com.example.lifeshare.api.file.mapper.FileMapper;
+import com.example.lifeshare.api.file.model.FileTombstoneDto;
+import com.example.lifeshare.cmm.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 물리 파일 삭제 처리 클래스
+ * - 파일 정보 삭제 트랜잭션에서는 삭제 대기(lf_file_tombstone)만 등록
+ * - 커밋 후 즉시 1회, 이후 주기적으로 삭제 대기를 처리 (실패 시 지수 backoff 재시도)
+ * - blob 파일은 lf_file_blob 행을 잠근 상태에서 참조가 없을 때만 삭제 (동일 내용 재업로드와 경합 방지)
+ * - 원본은 FileStorage 에서, 썸네일 등 파생 파일은 로컬 업로드 디렉토리에서 삭제
+ *
+ * @author minyoung
+ * @version 1.0
+ **/
+@Slf4j
+@Component
+public class FileTombstoneWorker {
+
+    /**
+     * 재시도 최대 대기 시간 (초)
+     */
+    private static final long MAX_RETRY_DELAY_SEC = 60L * 60L;
+
+    private final FileMapper fileMapper;
+
+    private final FileThumbnailGenerator fileThumbnailGenerator;
+
+    private final FileStorage fileStorage;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 삭제 처리 전용 스레드풀
+     */
+    private final Executor fileTombstoneExecutor;
+
+    /**
+     * 1회 조회 건수
+     */
+    @Value("${file.tombstone.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * 경고 로그 기준 재시도 횟수
+     */
+    @Value("${file.tombstone.warn-retry-cnt:10}")
+    private int warnRetryCnt;
+
+    /**
+     * 인스턴스 내 동시 처리 방지
+     */
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    @Autowired
+    public FileTombstoneWorker(FileMapper fileMapper,
+                               FileThumbnailGenerator fileThumbnailGenerator,
+                               FileStorage fileStorage,
+                               TransactionTemplate transactionTemplate,
+                               @Qualifier("fileTombstoneExecutor") Executor fileTombstoneExecutor) {
+        this.fileMapper = fileMapper;
+        this.fileThumbnailGenerator = fileThumbnailGenerator;
+        this.fileStorage = fileStorage;
+        this.transactionTemplate = transactionTemplate;
+        this.fileTombstoneExecutor = fileTombstoneExecutor;
+    }
+
+    /**
+     * 삭제 대기 등록 - 현재 트랜잭션에 포함, 커밋 후 처리 요청
+     */
+    public void enqueue(List<FileTombstoneDto> tombstoneList) throws ServiceException {
+        if (tombstoneList.isEmpty()) {
+            return;
+        }
+        fileMapper.insertFileTombstoneBatch(tombstoneList);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    kick();
+                }
+            });
+        } else {
+            kick();
+        }
+    }
+
+    /**
+     * 백그라운드 처리 요청 (대기 중인 요청이 있으면 무시됨)
+     */
+    public void kick() {
+        fileTombstoneExecutor.execute(this::drain);
+    }
+
+    /**
+     * 주기적 처리 (재시도 대상 및 커밋 후 처리 누락분)
+     */
+    @Scheduled(fixedDelayString = "${file.tombstone.poll-ms:60000}",
+            initialDelayString = "${file.tombstone.poll-ms:60000}")
+    public void drain() {
+        if (!drainLock.tryLock()) {
+            return;
+        }
+        try {
+            long lastTombId = 0L;
+            List<FileTombstoneDto> tombstoneList;
+            do {
+                tombstoneList = fileMapper.selectListFileTombstoneDue(lastTombId, batchSize);
+                for (FileTombstoneDto tombstone : tombstoneList) {
+                    process(tombstone.getTombId());
+                    lastTombId = tombstone.getTombId();
+                }
+            } while (tombstoneList.size() == batchSize);
+        } catch (DataAccessException | ServiceException e) {
+            log.warn("file tombstone drain failed", e);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * 삭제 대기 1건 처리 - 잠금 획득 실패(다른 인스턴스 처리 중) 시 건너뜀
+     */
+    private void process(long tombId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                FileTombstoneDto tombstone = fileMapper.selectOneFileTombstoneForUpdate(tombId);
+                if (tombstone == null) {
+                    return;
+                }
+                // 동일 내용이 다시 등록되어 blob 이 살아 있으면 파일 유지
+                if (tombstone.getBlobHash() != null
+                        && fileMapper.selectOneFileBlobForUpdate(tombstone.getBlobHash()) != null) {
+                    fileMapper.deleteFileTombstone(tombId);
+                    return;
+                }
+                String key = fileStorage.keyOf(Paths.get(tombstone.getFilePath()));
+                Path filePath = fileStorage.localPath(key);
+                try {
+                    fileThumbnailGenerator.deleteDerivatives(filePath);
+                    fileStorage.delete(key);
+                    fileMapper.deleteFileTombstone(tombId);
+                } catch (IOException e) {
+                    int retryCnt = tombstone.getRetryCnt() == null ? 0 : tombstone.getRetryCnt();
+                    long delaySec = Math.min(MAX_RETRY_DELAY_SEC, 30L << Math.min(retryCnt, 10));
+                    String lastError = String.valueOf(e.getMessage());
+                    fileMapper.updateFileTombstoneRetry(tombId, delaySec,
+                            lastError.length() > 500 ? lastError.substring(0, 500) : lastError);
+                    if (retryCnt + 1 >= warnRetryCnt) {
+                        log.warn("file delete failed {} times: {}", retryCnt + 1, filePath, e);
+                    } else {
+                        log.debug("file delete failed, retry in {}s: {}", delaySec, filePath);
+                    }
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("file tombstone process failed: tombId={}", tombId, e);
+        }
+    }
+}
@@ -0,0 +1,526 @@
+package com.example.lifeshare.api.file.service;
+
+import com.example.lifeshare.api.file.mapper.FileMapper;
+import com.example.lifeshare.api.file.model.FileDto;
+import com.example.lifeshare.api.file.model.FileVideoDto;
+import com.example.lifeshare.cmm.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 영상 후처리 클래스
+ * - 영상 업로드 커밋 후 작업(lf_file_video) 등록, 전용 스레드풀에서 ffmpeg 외부 프로세스로 포스터/HLS 생성
+ * - 생성 파일은 FileStorage 에 저장하고 lf_file_list 에 파생 파일로 등록 (type_nm = 'video', targ_id = 원본 file_id)
+ * - 스레드풀 포화/재시작으로 누락된 작업은 주기 처리에서 다시 제출, 실패 시 지수 backoff 재시도
+ * - ffmpeg 을 실행할 수 없으면 작업은 SKIPPED 처리 (원본 영상은 그대로 제공)
+ *
+ * @author minyoung
+ * @version 1.0
+ **/
+@Slf4j
+@Component
+public class FileVideoPipeline {
+
+    /**
+     * 파생 파일 타입 명
+     */
+    public static final String TYPE_NM = "video";
+
+    /**
+     * 파생 파일 종류 - 포스터 이미지
+     */
+    public static final String DERIV_POSTER = "POSTER";
+
+    /**
+     * 파생 파일 종류 - HLS 재생 목록
+     */
+    public static final String DERIV_HLS = "HLS";
+
+    /**
+     * 파생 파일 종류 - HLS 구간 파일
+     */
+    public static final String DERIV_HLS_SEGMENT = "HLS_SEGMENT";
+
+    public static final String STATUS_PENDING = "PENDING";
+
+    public static final String STATUS_DONE = "DONE";
+
+    public static final String STATUS_FAILED = "FAILED";
+
+    public static final String STATUS_SKIPPED = "SKIPPED";
+
+    /**
+     * 파생 파일 저장 디렉토리명 (업로드 디렉토리 하위)
+     */
+    private static final String VIDEO_DIR_NAME = "video";
+
+    /**
+     * 작업 디렉토리명 (업로드 디렉토리 하위, '.' 으로 시작하여 고아 파일 정리 대상에서 제외)
+     */
+    private static final String WORK_DIR_NAME = ".video-work";
+
+    /**
+     * 재시도 최대 대기 시간 (초)
+     */
+    private static final long MAX_RETRY_DELAY_SEC = 6L * 60L * 60L;
+
+    /**
+     * 파생 파일 1회 등록 건수
+     */
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    /**
+     * 작업 1건의 최대 ffmpeg 실행 횟수 (포스터 추출 + 실패 시 첫 프레임 재시도 + HLS)
+     */
+    private static final int MAX_FFMPEG_RUN_CNT = 3;
+
+    private final FileMapper fileMapper;
+
+    private final FileStorage fileStorage;
+
+    private final FileLayout fileLayout;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 영상 후처리 전용 스레드풀
+     */
+    private final Executor videoExecutor;
+
+    /**
+     * 후처리 사용 여부
+     */
+    @Value("${file.video.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * ffmpeg 실행 파일 경로
+     */
+    @Value("${file.video.ffmpeg-path:ffmpeg}")
+    private String ffmpegPath;
+
+    /**
+     * ffmpeg 1회 최대 실행 시간 (초)
+     */
+    @Value("${file.video.timeout-sec:1800}")
+    private long timeoutSec;
+
+    /**
+     * 처리 중(RUNNING) 작업 복구 기준 여유 시간 (분, 원본 다운로드/파생 파일 저장 시간 포함)
+     */
+    @Value("${file.video.stale-margin-min:30}")
+    private long staleMarginMin;
+
+    /**
+     * 포스터 추출 위치 (초)
+     */
+    @Value("${file.video.poster-at-sec:1}")
+    private int posterAtSec;
+
+    /**
+     * 포스터 최대 가로 (px)
+     */
+    @Value("${file.video.poster-max-width:1280}")
+    private int posterMaxWidth;
+
+    /**
+     * HLS 생성 여부
+     */
+    @Value("${file.video.hls.enabled:false}")
+    private boolean hlsEnabled;
+
+    /**
+     * HLS 구간 길이 (초)
+     */
+    @Value("${file.video.hls.segment-sec:6}")
+    private int hlsSegmentSec;
+
+    /**
+     * HLS 최대 세로 (px)
+     */
+    @Value("${file.video.hls.max-height:720}")
+    private int hlsMaxHeight;
+
+    /**
+     * 최대 시도 횟수 (초과 시 FAILED)
+     */
+    @Value("${file.video.max-retry-cnt:3}")
+    private int maxRetryCnt;
+
+    /**
+     * 1회 조회 건수
+     */
+    @Value("${file.video.batch-size:50}")
+    private int batchSize;
+
+    /**
+     * ffmpeg 실행 가능 여부 (최초 사용 시 확인)
+     */
+    private volatile Boolean ffmpegAvailable;
+
+    @Autowired
+    public FileVideoPipeline(FileMapper fileMapper,
+                             FileStorage fileStorage,
+                             FileLayout fileLayout,
+                             TransactionTemplate transactionTemplate,
+                             @Qualifier("videoExecutor") Executor videoExecutor) {
+        this.fileMapper = fileMapper;
+        this.fileStorage = fileStorage;
+        this.fileLayout = fileLayout;
+        this.transactionTemplate = transactionTemplate;
+        this.videoExecutor = videoExecutor;
+    }
+
+    /**
+     * 영상 컨텐츠 타입 여부
+     */
+    public static boolean isVideoContentType(String contentType) {
+        return contentType != null && contentType.toLowerCase().startsWith("video/");
+    }
+
+    /**
+     * 영상 파일 후처리 등록 - 현재 트랜잭션에 포함, 커밋 후 처리 요청
+     */
+    public void enqueue(List<FileDto> fileList) throws ServiceException {
+        if (!enabled) {
+            return;
+        }
+        List<String> fileIdList = new ArrayList<>();
+        for (FileDto fileDto : fileList) {
+            if ("Y".equals(fileDto.getVideoYn()) && fileDto.getDerivType() == null && fileDto.getFileId() != null) {
+                fileIdList.add(fileDto.getFileId());
+            }
+        }
+        if (fileIdList.isEmpty()) {
+            return;
+        }
+        fileMapper.insertFileVideoBatch(fileIdList);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fileIdList.forEach(fileId -> submit(fileId));
+                }
+            });
+        } else {
+            fileIdList.forEach(this::submit);
+        }
+    }
+
+    /**
+     * 주기적 처리 (스레드풀 포화/재시작으로 누락된 작업, 재시도 대상)
+     */
+    @Scheduled(fixedDelayString = "${file.video.poll-ms:60000}",
+            initialDelayString = "${file.video.poll-ms:60000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            // 처리 중 프로세스가 종료된 작업 복구 - 정상 작업의 최대 소요 시간(ffmpeg 최대 실행 횟수 x 제한 시간) + 여유 시간 경과
+            long staleMinutes = (timeoutSec * MAX_FFMPEG_RUN_CNT + 59) / 60 + staleMarginMin;
+            fileMapper.updateFileVideoStaleReset(staleMinutes);
+
+            long lastFileId = 0L;
+            List<FileVideoDto> videoList;
+            do {
+                videoList = fileMapper.selectListFileVideoDue(lastFileId, batchSize);
+                for (FileVideoDto video : videoList) {
+                    if (!submit(video.getFileId())) {
+                        return;
+                    }
+                    lastFileId = Long.parseLong(video.getFileId());
+                }
+            } while (videoList.size() == batchSize);
+        } catch (DataAccessException | ServiceException e) {
+            log.warn("file video poll failed", e);
+        }
+    }
+
+    /**
+     * 스레드풀에 제출 (포화 시 false, 작업은 대기로 남음)
+     */
+    private boolean submit(String fileId) {
+        try {
+            videoExecutor.execute(() -> process(fileId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.debug("video queue full, deferred: fileId={}", fileId);
+            return false;
+        }
+    }
+
+    /**
+     * 작업 1건 처리 - 선점 실패(다른 스레드/인스턴스 처리 중) 시 건너뜀
+     */
+    private void process(String fileId) {
+        try {
+            if (fileMapper.updateFileVideoClaim(fileId) == 0) {
+                return;
+            }
+            FileDto source = fileMapper.selectOneFileInfo(fileId);
+            if (source == null) {
+                fileMapper.deleteFileVideoByIdList(List.of(fileId));
+                return;
+            }
+            if (!isFfmpegAvailable()) {
+                fileMapper.updateFileVideoStatus(fileId, STATUS_SKIPPED, "ffmpeg not available: " + ffmpegPath);
+                return;
+            }
+
+            Path workDir = fileStorage.getRoot().resolve(WORK_DIR_NAME).resolve(fileId);
+            try {
+                deleteRecursively(workDir);
+                Files.createDirectories(workDir);
+                List<FileDto> derivList = transcode(source, workDir);
+                register(fileId, derivList, workDir);
+            } finally {
+                deleteRecursively(workDir);
+            }
+        } catch (IOException | DataAccessException | ServiceException e) {
+            fail(fileId, e);
+        }
+    }
+
+    /**
+     * ffmpeg 으로 포스터 / HLS 생성 후 파생 파일 목록 반환 (filePath 는 작업 디렉토리)
+     */
+    private List<FileDto> transcode(FileDto source, Path workDir) throws IOException {
+        String fileId = source.getFileId();
+        String key = fileStorage.keyOf(Paths.get(source.getFilePath() + source.getFileNm()));
+        Path input;
+        if (fileStorage.isLocal()) {
+            input = fileStorage.localPath(key);
+        } else {
+            input = workDir.resolve("source");
+            try (InputStream inputStream = fileStorage.openStream(key, 0, -1)) {
+                Files.copy(inputStream, input);
+            }
+        }
+        if (!Files.isRegularFile(input)) {
+            throw new IOException("source not found: " + key);
+        }
+        Path logFile = workDir.resolve("ffmpeg.log");
+        List<FileDto> derivList = new ArrayList<>();
+
+        // 포스터 - 지정 위치가 영상 길이를 넘으면 첫 프레임
+        String posterNm = fileId + "_poster.jpg";
+        Path poster = workDir.resolve(posterNm);
+        String posterScale = "scale='min(" + posterMaxWidth + ",iw)':-2";
+        runFfmpeg(List.of("-ss", String.valueOf(posterAtSec), "-i", input.toString(),
+                "-frames:v", "1", "-vf", posterScale, "-q:v", "3", poster.toString()), logFile);
+        if (!Files.isRegularFile(poster) || Files.size(poster) == 0) {
+            runFfmpeg(List.of("-i", input.toString(), "-frames:v", "1", "-vf", posterScale, "-q:v", "3", poster.toString()), logFile);
+        }
+        if (Files.isRegularFile(poster) && Files.size(poster) > 0) {
+            derivList.add(newDerivative(source, posterNm, "image/jpeg", DERIV_POSTER));
+        }
+
+        // HLS (VOD) - 구간 파일은 재생 목록과 같은 디렉토리, 상대 경로로 참조
+        if (hlsEnabled) {
+            String playlistNm = fileId + "_index.m3u8";
+            runFfmpeg(List.of("-i", input.toString(),
+                    "-c:v", "libx264", "-preset", "veryfast", "-crf", "23",
+                    "-vf", "scale=-2:'min(" + hlsMaxHeight + ",ih)'",
+                    "-c:a", "aac", "-b:a", "128k",
+                    "-f", "hls", "-hls_time", String.valueOf(hlsSegmentSec), "-hls_playlist_type", "vod",
+                    "-hls_segment_filename", workDir.resolve(fileId + "_%05d.ts").toString(),
+                    workDir.resolve(playlistNm).toString()), logFile);
+            List<String> segmentNmList = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(workDir, fileId + "_*.ts")) {
+                for (Path segment : stream) {
+                    segmentNmList.add(segment.getFileName().toString());
+                }
+            }
+            segmentNmList.sort(String::compareTo);
+            for (String segmentNm : segmentNmList) {
+                derivList.add(newDerivative(source, segmentNm, "video/mp2t", DERIV_HLS_SEGMENT));
+            }
+            derivList.add(newDerivative(source, playlistNm, "application/vnd.apple.mpegurl", DERIV_HLS));
+        }
+        return derivList;
+    }
+
+    /**
+     * 파생 파일을 저장소로 옮기고 파일 정보 등록
+     * - 원본 파일 행을 잠근 뒤 등록하여 처리 중 원본이 삭제되었으면 저장한 파일 정리
+     */
+    private void register(String fileId, List<FileDto> derivList, Path workDir) throws IOException, ServiceException {
+        String videoDir = fileStorage.getRoot().resolve(VIDEO_DIR_NAME) + File.separator + fileLayout.shardPath(fileId);
+        List<String> storedKeyList = new ArrayList<>();
+        try {
+            for (FileDto deriv : derivList) {
+                String key = fileStorage.keyOf(Paths.get(videoDir + deriv.getFileNm()));
+                fileStorage.store(workDir.resolve(deriv.getFileNm()), key, deriv.getExt());
+                storedKeyList.add(key);
+                deriv.setFilePath(videoDir);
+            }
+            Boolean registered = transactionTemplate.execute(status -> {
+                if (fileMapper.selectOneFileInfoForUpdate(fileId) == null) {
+                    return false;
+                }
+                for (int i = 0; i < derivList.size(); i += INSERT_BATCH_SIZE) {
+                    fileMapper.reqPostFileInfoBatch(derivList.subList(i, Math.min(i + INSERT_BATCH_SIZE, derivList.size())));
+                }
+                fileMapper.updateFileVideoStatus(fileId, STATUS_DONE, null);
+                return true;
+            });
+            if (!Boolean.TRUE.equals(registered)) {
+                log.info("video source deleted during processing: fileId={}", fileId);
+                fileMapper.deleteFileVideoByIdList(List.of(fileId));
+                deleteStored(storedKeyList);
+                return;
+            }
+            log.info("video derivatives registered: fileId={}, count={}", fileId, derivList.size());
+        } catch (IOException | DataAccessException | ServiceException e) {
+            deleteStored(storedKeyList);
+            throw e;
+        }
+    }
+
+    /**
+     * 실패 처리 - 최대 시도 횟수 전까지 지수 backoff 재시도
+     */
+    private void fail(String fileId, Exception e) {
+        String lastError = String.valueOf(e.getMessage());
+        lastError = lastError.length() > 500 ? lastError.substring(0, 500) : lastError;
+        try {
+            FileVideoDto video = fileMapper.selectOneFileVideo(fileId);
+            int retryCnt = (video == null || video.getRetryCnt() == null) ? 0 : video.getRetryCnt();
+            if (retryCnt + 1 >= maxRetryCnt) {
+                fileMapper.updateFileVideoStatus(fileId, STATUS_FAILED, lastError);
+                log.warn("video processing failed: fileId={}", fileId, e);
+            } else {
+                long delaySec = Math.min(MAX_RETRY_DELAY_SEC, 60L << Math.min(retryCnt, 10));
+                fileMapper.updateFileVideoRetry(fileId, delaySec, lastError);
+                log.info("video processing failed, retry in {}s: fileId={}, {}", delaySec, fileId, lastError);
+            }
+        } catch (DataAccessException | ServiceException ex) {
+            log.warn("video processing state update failed: fileId={}", fileId, ex);
+        }
+    }
+
+    /**
+     * ffmpeg 실행 (출력은 로그 파일로, 시간 초과 시 강제 종료)
+     */
+    private void runFfmpeg(List<String> args, Path logFile) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(ffmpegPath);
+        command.addAll(List.of("-nostdin", "-y", "-v", "error"));
+        command.addAll(args);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(logFile.toFile()))
+                .start();
+        try {
+            if (!process.waitFor(timeoutSec, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IOException("ffmpeg timeout (" + timeoutSec + "s)");
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IOException("ffmpeg interrupted", e);
+        }
+        if (process.exitValue() != 0) {
+            throw new IOException("ffmpeg exit " + process.exitValue() + ": " + tail(logFile));
+        }
+    }
+
+    /**
+     * ffmpeg 실행 가능 여부
+     */
+    private boolean isFfmpegAvailable() {
+        Boolean available = ffmpegAvailable;
+        if (available != null) {
+            return available;
+        }
+        try {
+            Process process = new ProcessBuilder(ffmpegPath, "-version")
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (process.waitFor(10, TimeUnit.SECONDS)) {
+                available = process.exitValue() == 0;
+            } else {
+                process.destroyForcibly();
+                available = false;
+            }
+        } catch (IOException e) {
+            available = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        if (!available) {
+            log.warn("ffmpeg not available ({}), video post-processing skipped", ffmpegPath);
+        }
+        ffmpegAvailable = available;
+        return available;
+    }
+
+    private static FileDto newDerivative(FileDto source, String fileNm, String contentType, String derivType) {
+        FileDto fileDto = new FileDto();
+        fileDto.setTargId(source.getFileId());
+        fileDto.setTypeNm(TYPE_NM);
+        fileDto.setFileNm(fileNm);
+        fileDto.setRealFileNm(fileNm);
+        fileDto.setExt(contentType);
+        fileDto.setVideoYn("N");
+        fileDto.setDerivType(derivType);
+        return fileDto;
+    }
+
+    private void deleteStored(List<String> keyList) {
+        for (String key : keyList) {
+            try {
+                fileStorage.delete(key);
+            } catch (IOException e) {
+                log.warn("video derivative cleanup failed: {}", key, e);
+            }
+        }
+    }
+
+    private static String tail(Path logFile) {
+        try {
+            String output = Files.readString(logFile, StandardCharsets.UTF_8).trim();
+            return output.length() > 300 ? output.substring(output.length() - 300) : output;
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path child : stream) {
+                Files.deleteIfExists(child);
+            }
+        }
+        Files.deleteIfExists(dir);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.lifeshare.api.file.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+
+/**
+ * 로컬 파일시스템 저장소 (기본값)
+ * - 저장소 키를 업로드 디렉토리 기준 경로로 사용, 임시파일은 같은 파일시스템 안에서 rename
+ *
+ * @author minyoung
+ * @version 1.0
+ **/
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalFileStorage implements FileStorage {
+
+    private final Path root;
+
+    public LocalFileStorage(@Value("${file.community-path}") String communityPath) {
+        this.root = Paths.get(communityPath).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String getType() {
+        return "local";
+    }
+
+    @Override
+    public boolean isLocal() {
+        return true;
+    }
+
+    @Override
+    public Path getRoot() {
+        return root;
+    }
+
+    @Override
+    public StoredObject stat(String key) throws IOException {
+        Path filePath = localPath(key);
+        if (!Files.isRegularFile(filePath)) {
+            return null;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        return new StoredObject(attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+
+    @Override
+    public void store(Path source, String key, String contentType) throws IOException {
+        Path target = localPath(key);
+        Files.createDirectories(target.getParent());
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public InputStream openStream(String key, long start, long count) throws IOException {
+        FileChannel channel = FileChannel.open(localPath(key), StandardOpenOption.READ);
+        InputStream inputStream = Channels.newInputStream(channel.position(start));
+        return count < 0 ? inputStream : new LimitedInputStream(inputStream, count);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(localPath(key));
+    }
+
+    @Override
+    public URI presignedUrl(String key, String contentType, String downloadFileName, Duration ttl) {
+        return null;
+    }
+}
@@ -0,0 +1,273 @@
+package com.example.lifeshare.api.file.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * S3 호환 오브젝트 스토리지 저장소 (AWS S3, MinIO 등)
+ * - 오브젝트 키 : {prefix}{저장소 키}
+ * - part-size 를 넘는 파일은 multipart 업로드 (part 마다 파일 구간을 다시 열어 재시도 가능)
+ * - 다운로드는 서명 URL redirect 또는 Range 구간 읽기
+ * - endpoint / path-style-access 설정으로 로컬 MinIO 등 호환 서버 사용
+ *
+ * @author minyoung
+ * @version 1.0
+ **/
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+public class S3FileStorage implements FileStorage, DisposableBean {
+
+    /**
+     * multipart 최소 part 크기 (S3 제한)
+     */
+    private static final long MIN_PART_SIZE = 5L * 1024L * 1024L;
+
+    private final Path root;
+
+    private final String bucket;
+
+    private final String prefix;
+
+    /**
+     * multipart 업로드 part 크기 (byte)
+     */
+    private final long partSize;
+
+    private final S3Client s3Client;
+
+    private final S3Presigner s3Presigner;
+
+    @Autowired
+    public S3FileStorage(@Value("${file.community-path}") String communityPath,
+                         @Value("${file.storage.s3.endpoint:}") String endpoint,
+                         @Value("${file.storage.s3.region:ap-northeast-2}") String region,
+                         @Value("${file.storage.s3.bucket}") String bucket,
+                         @Value("${file.storage.s3.prefix:}") String prefix,
+                         @Value("${file.storage.s3.access-key:}") String accessKey,
+                         @Value("${file.storage.s3.secret-key:}") String secretKey,
+                         @Value("${file.storage.s3.path-style-access:false}") boolean pathStyleAccess,
+                         @Value("${file.storage.s3.part-size:67108864}") long partSize) {
+        this(communityPath, bucket, prefix, partSize, clientConfig(endpoint, region, accessKey, secretKey, pathStyleAccess));
+        log.info("file storage: s3 bucket={}, prefix={}, endpoint={}", bucket, this.prefix, endpoint.isBlank() ? "aws" : endpoint);
+    }
+
+    private S3FileStorage(String communityPath, String bucket, String prefix, long partSize, S3ClientConfig clientConfig) {
+        this(communityPath, bucket, prefix, partSize, clientConfig.s3Client(), clientConfig.s3Presigner());
+    }
+
+    /**
+     * 클라이언트 지정 생성 (테스트에서 장애 주입용 클라이언트 사용)
+     */
+    S3FileStorage(String communityPath, String bucket, String prefix, long partSize, S3Client s3Client, S3Presigner s3Presigner) {
+        this.root = Paths.get(communityPath).toAbsolutePath().normalize();
+        this.bucket = bucket;
+        this.prefix = (prefix.isEmpty() || prefix.endsWith("/")) ? prefix : prefix + "/";
+        this.partSize = Math.max(MIN_PART_SIZE, partSize);
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+    }
+
+    /**
+     * S3 클라이언트 / 서명 URL 생성기 구성 (endpoint 지정 시 호환 서버 사용)
+     */
+    private static S3ClientConfig clientConfig(String endpoint, String region, String accessKey, String secretKey, boolean pathStyleAccess) {
+        AwsCredentialsProvider credentialsProvider = accessKey.isBlank()
+                ? DefaultCredentialsProvider.create()
+                : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+        S3Configuration serviceConfiguration = S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyleAccess)
+                .build();
+
+        S3ClientBuilder clientBuilder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider)
+                .serviceConfiguration(serviceConfiguration);
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider)
+                .serviceConfiguration(serviceConfiguration);
+        if (!endpoint.isBlank()) {
+            clientBuilder.endpointOverride(URI.create(endpoint));
+            presignerBuilder.endpointOverride(URI.create(endpoint));
+        }
+        return new S3ClientConfig(clientBuilder.build(), presignerBuilder.build());
+    }
+
+    private record S3ClientConfig(S3Client s3Client, S3Presigner s3Presigner) {
+    }
+
+    @Override
+    public String getType() {
+        return "s3";
+    }
+
+    @Override
+    public boolean isLocal() {
+        return false;
+    }
+
+    @Override
+    public Path getRoot() {
+        return root;
+    }
+
+    @Override
+    public StoredObject stat(String key) throws IOException {
+        try {
+            HeadObjectResponse response = s3Client.headObject(b -> b.bucket(bucket).key(objectKey(key)));
+            return new StoredObject(response.contentLength(), response.lastModified().toEpochMilli());
+        } catch (NoSuchKeyException e) {
+            return null;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw new IOException("s3 head failed: " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("s3 head failed: " + key, e);
+        }
+    }
+
+    @Override
+    public void store(Path source, String key, String contentType) throws IOException {
+        long size = Files.size(source);
+        String type = (contentType == null || contentType.isBlank()) ? "application/octet-stream" : contentType;
+        try {
+            if (size <= partSize) {
+                s3Client.putObject(b -> b.bucket(bucket).key(objectKey(key)).contentType(type), RequestBody.fromFile(source));
+            } else {
+                storeMultipart(source, objectKey(key), type, size);
+            }
+        } catch (SdkException | UncheckedIOException e) {
+            throw new IOException("s3 upload failed: " + key, e);
+        }
+        Files.deleteIfExists(source);
+    }
+
+    /**
+     * multipart 업로드 - 실패 시 업로드 중단(abort)하여 part 정리
+     */
+    private void storeMultipart(Path source, String objectKey, String contentType, long size) {
+        String uploadId = s3Client.createMultipartUpload(b -> b.bucket(bucket).key(objectKey).contentType(contentType)).uploadId();
+        try {
+            List<CompletedPart> partList = new ArrayList<>();
+            int partNumber = 1;
+            for (long position = 0; position < size; position += partSize, partNumber++) {
+                long start = position;
+                long length = Math.min(partSize, size - position);
+                int number = partNumber;
+                String eTag = s3Client.uploadPart(b -> b.bucket(bucket).key(objectKey).uploadId(uploadId).partNumber(number),
+                        RequestBody.fromContentProvider(() -> openPart(source, start, length), length, contentType)).eTag();
+                partList.add(CompletedPart.builder().partNumber(number).eTag(eTag).build());
+            }
+            s3Client.completeMultipartUpload(b -> b.bucket(bucket).key(objectKey).uploadId(uploadId)
+                    .multipartUpload(m -> m.parts(partList)));
+        } catch (SdkException | UncheckedIOException e) {
+            try {
+                s3Client.abortMultipartUpload(b -> b.bucket(bucket).key(objectKey).uploadId(uploadId));
+            } catch (SdkException ex) {
+                log.warn("s3 multipart abort failed: {} ({})", objectKey, uploadId, ex);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * part 구간 스트림 (재시도마다 새로 열림)
+     */
+    private static InputStream openPart(Path source, long start, long length) {
+        try {
+            FileChannel channel = FileChannel.open(source, StandardOpenOption.READ);
+            return new LimitedInputStream(Channels.newInputStream(channel.position(start)), length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream openStream(String key, long start, long count) throws IOException {
+        GetObjectRequest.Builder builder = GetObjectRequest.builder().bucket(bucket).key(objectKey(key));
+        if (start > 0 || count >= 0) {
+            builder.range("bytes=" + start + "-" + (count >= 0 ? String.valueOf(start + count - 1) : ""));
+        }
+        try {
+            return s3Client.getObject(builder.build());
+        } catch (SdkException e) {
+            throw new IOException("s3 read failed: " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3Client.deleteObject(b -> b.bucket(bucket).key(objectKey(key)));
+        } catch (SdkException e) {
+            throw new IOException("s3 delete failed: " + key, e);
+        }
+    }
+
+    @Override
+    public URI presignedUrl(String key, String contentType, String downloadFileName, Duration ttl) {
+        GetObjectRequest.Builder builder = GetObjectRequest.builder().bucket(bucket).key(objectKey(key));
+        if (contentType != null && !contentType.isBlank()) {
+            builder.responseContentType(contentType);
+        }
+        if (downloadFileName != null) {
+            builder.responseContentDisposition(ContentDisposition.attachment()
+                    .filename(downloadFileName, StandardCharsets.UTF_8).build().toString());
+        }
+        GetObjectRequest getObjectRequest = builder.build();
+        return URI.create(s3Presigner.presignGetObject(b -> b.signatureDuration(ttl).getObjectRequest(getObjectRequest))
+                .url().toString());
+    }
+
+    /**
+     * 저장소 키 -> 오브젝트 키 (업로드 디렉토리 밖의 절대 경로 키는 선행 '/' 제거)
+     */
+    String objectKey(String key) {
+        return prefix + key.replaceFirst("^/+", "");
+    }
+
+    @Override
+    public void destroy() {
+        s3Presigner.close();
+        s3Client.close();
+    }
+}
@@ -13,7 +13,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -213,6 +217,51 @@ public class UserController {
         return userService.reqGetUserList(userId, search, registDt, loginDt, order, limit, pageNo);
     }
 
+    /**
+     * @param
+     * @return StreamingResponseBody : 유저 목록 (totalCnt, userList), 동시 처리 제한 초과 시 503
+     * @throws ServiceException : 예외
+     * @funcName : reqGetUserListStream
+     * @description : 조직별 유저 목록을 스트리밍으로 조회한다. (대량/전체 조회용, 행 단위로 응답 전송)
+     * @date : 2026-10-18 오후 7:50
+     * @author : minyoung
+     * @history :
+     * @see
+     **/
+    @Operation(summary = "유저 목록 스트리밍 조회 API", description = "조직별 유저 목록을 행 단위로 전송한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(description = "Unauthorized", example = "Unauthorized"))),
+            @ApiResponse(responseCode = "503", description = "Service Unavailable"),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(description = "Internal Server Error", example = "Internal Server Error")))
+    })
+    @Parameters(value = {
+            @Parameter(name = "userId", description = "사용자 아이디", required = false),
+            @Parameter(name = "search", description = "검색", required = false),
+            @Parameter(name = "registDt", description = "가입일자 기간", required = false),
+            @Parameter(name = "loginDt", description = "로그인일자 기간", required = false),
+            @Parameter(name = "order", description = "정렬기준", required = false),
+            @Parameter(name = "limit", description = "한페이지에 보여줄 목록 갯수 (0 이면 전체)", required = false),
+            @Parameter(name = "pageNo", description = "페이지 번호", required = false),
+    })
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> reqGetUserListStream(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String registDt,
+            @RequestParam(required = false) String loginDt,
+            @RequestParam(required = false, defaultValue = "0") int order,
+            @RequestParam(required = false, defaultValue = "0") int limit,
+            @RequestParam(required = false, defaultValue = "0") int pageNo) throws ServiceException {
+        StreamingResponseBody body = userService.reqGetUserListStream(userId, search, registDt, loginDt, order, limit, pageNo);
+        if (body == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     /**
      * 비밀번호 초기화 상태를 요청한다.
      *
@@ -16,6 +16,18 @@ import lombok.Data;
 @Data
 public class UserDto {
 
+    /**
+     * 서비스 사용자 ID (TN_SVC_USER.USER_ID)
+     */
+    @Schema(description = "서비스 사용자 ID", nullable = true)
+    private String userId;
+
+    /**
+     * 서비스 사용자 명 (TN_SVC_USER.USER_NM)
+     */
+    @Schema(description = "서비스 사용자 명", nullable = true)
+    private String userNm;
+
     /**
      * 사용자 ID
      */
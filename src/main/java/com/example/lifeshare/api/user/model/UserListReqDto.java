@@ -49,4 +49,16 @@ public class UserListReqDto extends ListCommonDto {
     @Schema(description = "검색어", nullable = true)
     private String search;
 
+    /**
+     * 커서 정렬 컬럼 값 (keyset 페이징)
+     */
+    @Schema(description = "커서 정렬 컬럼 값", nullable = true)
+    private String cursorOrderVal;
+
+    /**
+     * 커서 사용자 ID (keyset 페이징)
+     */
+    @Schema(description = "커서 사용자 ID", nullable = true)
+    private String cursorUserId;
+
 }
@@ -8,19 +8,25 @@ import com.example.lifeshare.api.user.model.UserListReqDto;
 import com.example.lifeshare.cmm.exception.ServiceException;
 import com.example.lifeshare.config.AES128;
 import com.example.lifeshare.config.RSA;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.ibatis.annotations.Param;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 
 /**
  * 유저정보 service 클래스
@@ -32,6 +38,11 @@ import java.util.Map;
 @Service
 public class UserService {
 
+    /**
+     * 스트리밍 조회 1회 조회/출력 단위 (행 수)
+     */
+    private static final int STREAM_CHUNK_SIZE = 500;
+
     /**
      * UserMapper 객체
      */
@@ -57,6 +68,16 @@ public class UserService {
      */
     private final BCryptPasswordEncoder passwordEncoder;
 
+    /**
+     * ObjectMapper 객체 (스트리밍 응답 직렬화)
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 스트리밍 조회 동시 처리 제한
+     */
+    private final Semaphore streamPermits;
+
     /**
      * UserService 생성자
      * - Field Injection 방지
@@ -64,6 +85,8 @@ public class UserService {
      * @param userMapper      userMapper 객체
      * @param authUtil        AuthUtil 객체
      * @param rsa             RSA 객체
+     * @param objectMapper    ObjectMapper 객체
+     * @param streamMaxConcurrent 스트리밍 조회 동시 처리 건수
 //     * @param passwordEncoder BCryptPasswordEncoder 클래스
      * @author parksujin
      * @version 1.0
@@ -73,12 +96,16 @@ public class UserService {
                        AuthUtil authUtil,
                        AES128 aes128,
                        RSA rsa,
-                       BCryptPasswordEncoder passwordEncoder) {
+                       BCryptPasswordEncoder passwordEncoder,
+                       ObjectMapper objectMapper,
+                       @Value("${user.stream.max-concurrent:2}") int streamMaxConcurrent) {
         this.userMapper = userMapper;
         this.authUtil = authUtil;
         this.aes128 = aes128;
         this.rsa = rsa;
         this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.streamPermits = new Semaphore(streamMaxConcurrent);
     }
 
     /**
@@ -296,6 +323,127 @@ public class UserService {
         }
     }
 
+    /**
+     * 조직별 유저 목록을 스트리밍으로 조회한다.
+     * - STREAM_CHUNK_SIZE 행씩 (정렬 컬럼, USER_ID) keyset 으로 나눠 조회하고 JsonGenerator 로 바로 출력
+     * - 조회마다 커넥션을 반납하므로 느린 클라이언트가 커넥션/커서를 붙잡지 않음
+     * - 전체 갯수는 응답 시작 전에 조회하고, 출력 중 오류는 연결 종료로 전달
+     * - 동시 처리 건수 제한 (user.stream.max-concurrent)
+     *
+     * @param userId   사용자 아이디
+     * @param search   검색어
+     * @param registDt 가입일자 기간
+     * @param loginDt  로그인일자 기간
+     * @param order    정렬기준
+     * @param limit    한 페이지당 요청 건수 (0 이면 전체)
+     * @param pageNo   페이지 번호
+     * @return StreamingResponseBody 응답 본문 작성 객체 ({"totalCnt": n, "userList": [...]}), 동시 처리 제한 초과 시 null
+     * @author minyoung
+     * @version 1.0
+     **/
+    public StreamingResponseBody reqGetUserListStream(String userId,
+                                                      String search,
+                                                      String registDt,
+                                                      String loginDt,
+                                                      int order,
+                                                      int limit,
+                                                      int pageNo) throws ServiceException {
+        UserListReqDto userListReqDto = UserListReqDto.builder()
+                .userId(userId)
+                .search(search)
+                .registDt(registDt)
+                .loginDt(loginDt)
+                .order(order)
+                .limit(limit)
+                .pageNo(pageNo)
+                .build();
+        if (!streamPermits.tryAcquire()) {
+            return null;
+        }
+        int totalCnt;
+        try {
+            totalCnt = userMapper.selectOneUserCnt(userListReqDto);
+        } catch (DataAccessException e) {
+            streamPermits.release();
+            log.error(e.getMessage());
+            throw new ServiceException(e.getMessage());
+        }
+
+        return outputStream -> {
+            try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)) {
+                jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                jsonGenerator.writeStartObject();
+                jsonGenerator.writeNumberField("totalCnt", totalCnt);
+                jsonGenerator.writeArrayFieldStart("userList");
+
+                // 첫 묶음은 요청 위치(offset)부터, 이후는 마지막 행 기준 keyset
+                int remaining = limit > 0 ? limit : Integer.MAX_VALUE;
+                UserListReqDto chunkReqDto = UserListReqDto.builder()
+                        .userId(userId)
+                        .search(search)
+                        .registDt(registDt)
+                        .loginDt(loginDt)
+                        .order(order)
+                        .limit(Math.min(STREAM_CHUNK_SIZE, remaining))
+                        .pageNo(pageNo)
+                        .build();
+                while (true) {
+                    List<UserDto> chunk = userMapper.selectListUser(chunkReqDto);
+                    if (chunk.isEmpty()) {
+                        break;
+                    }
+                    UserDto last = chunk.get(chunk.size() - 1);
+                    // 커서는 복호화 전 값(DB 정렬 기준)으로 생성
+                    String cursorOrderVal = orderValue(last, order);
+                    String cursorUserId = last.getUserId();
+                    for (UserDto userDto : chunk) {
+                        userDto.setEmail(aes128.decrypt(userDto.getEmail())); // email 복호화
+                        jsonGenerator.writeObject(userDto);
+                    }
+                    jsonGenerator.flush();
+                    remaining -= chunk.size();
+                    if (chunk.size() < chunkReqDto.getLimit() || remaining <= 0) {
+                        break;
+                    }
+                    chunkReqDto = UserListReqDto.builder()
+                            .userId(userId)
+                            .search(search)
+                            .registDt(registDt)
+                            .loginDt(loginDt)
+                            .order(order)
+                            .limit(Math.min(STREAM_CHUNK_SIZE, remaining))
+                            .cursorOrderVal(cursorOrderVal)
+                            .cursorUserId(cursorUserId)
+                            .build();
+                }
+                jsonGenerator.writeEndArray();
+                jsonGenerator.writeEndObject();
+            } catch (DataAccessException | ServiceException e) {
+                log.error(e.getMessage(), e);
+                throw new IOException(e.getMessage(), e);
+            } catch (IOException e) {
+                log.warn("user list stream aborted: {}", e.getMessage());
+                throw e;
+            } finally {
+                streamPermits.release();
+            }
+        };
+    }
+
+    /**
+     * 정렬 기준 컬럼 값 (user.xml userOrderColumn 과 같은 기준)
+     */
+    private static String orderValue(UserDto userDto, int order) {
+        return switch (order) {
+            case 1 -> userDto.getUserNm();
+            case 4 -> userDto.getEmail();
+            case 5 -> userDto.getRegistDt();
+            case 6 -> userDto.getLoginDt();
+            case 8 -> userDto.getPwdResetSttus();
+            default -> userDto.getUserId();
+        };
+    }
+
     /**
      * 유저 정보를 수정한다.
      *
@@ -0,0 +1,132 @@
+package com.example.lifeshare.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 작업 스레드풀 설정 클래스
+ *
+ * @author minyoung
+ * @version 1.0
+ ** 1. 첨부파일 디스크 I/O 전용 스레드풀 (크기 제한, 초과 시 호출 스레드에서 실행)
+ ** 2. 썸네일 생성 전용 스레드풀 (크기 제한, 초과 시 거부)
+ ** 3. 물리 파일 삭제 전용 스레드 (대기 1건, 초과 요청은 버림)
+ ** 4. 영상 후처리(ffmpeg) 전용 스레드풀 (크기 제한, 초과 시 거부 - 주기 처리에서 재시도)
+ ** 5. MVC 비동기 응답(StreamingResponseBody) 스레드풀 (크기 제한, 초과 시 거부)
+ **    - 위 ThreadPoolTaskExecutor 빈이 있으면 Boot 기본 applicationTaskExecutor 가 생성되지 않으므로 직접 등록 (WebMvcConfig)
+ **/
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 첨부파일 업로드 스레드풀
+     *
+     * @param poolSize      스레드 수
+     * @param queueCapacity 대기 큐 크기
+     * @return ThreadPoolTaskExecutor
+     * @author minyoung
+     * @version 1.0
+     **/
+    @Bean(name = "fileUploadExecutor")
+    public ThreadPoolTaskExecutor fileUploadExecutor(@Value("${file.upload.pool-size:4}") int poolSize,
+                                                     @Value("${file.upload.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("file-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * 썸네일 생성 스레드풀
+     * - 포화 시 RejectedExecutionException (요청 스레드에서 실행하지 않음)
+     *
+     * @param poolSize      스레드 수
+     * @param queueCapacity 대기 큐 크기
+     * @return ThreadPoolTaskExecutor
+     * @author minyoung
+     * @version 1.0
+     **/
+    @Bean(name = "thumbnailExecutor")
+    public ThreadPoolTaskExecutor thumbnailExecutor(@Value("${file.thumb.pool-size:2}") int poolSize,
+                                                    @Value("${file.thumb.queue-capacity:32}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("file-thumb-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * 물리 파일 삭제 스레드
+     * - 처리 중 1건 + 대기 1건, 이미 대기 중이면 추가 요청은 버림 (대기 중인 처리가 함께 처리)
+     *
+     * @return ThreadPoolTaskExecutor
+     * @author minyoung
+     * @version 1.0
+     **/
+    @Bean(name = "fileTombstoneExecutor")
+    public ThreadPoolTaskExecutor fileTombstoneExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("file-tombstone-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+
+    /**
+     * 영상 후처리 스레드풀
+     * - 포화 시 RejectedExecutionException (작업은 DB 에 대기로 남아 주기 처리에서 다시 제출)
+     *
+     * @param poolSize      스레드 수
+     * @param queueCapacity 대기 큐 크기
+     * @return ThreadPoolTaskExecutor
+     * @author minyoung
+     * @version 1.0
+     **/
+    @Bean(name = "videoExecutor")
+    public ThreadPoolTaskExecutor videoExecutor(@Value("${file.video.pool-size:1}") int poolSize,
+                                                @Value("${file.video.queue-capacity:16}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("file-video-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * MVC 비동기 응답 스레드풀
+     * - 목록 스트리밍 응답 작성용, 동시 처리 건수는 각 서비스에서 제한
+     *
+     * @param poolSize      스레드 수
+     * @param queueCapacity 대기 큐 크기
+     * @return ThreadPoolTaskExecutor
+     * @author minyoung
+     * @version 1.0
+     **/
+    @Bean(name = "mvcAsyncExecutor")
+    public ThreadPoolTaskExecutor mvcAsyncExecutor(@Value("${web.async.pool-size:8}") int poolSize,
+                                                   @Value("${web.async.queue-capacity:16}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.lifeshare.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * 업로드 디렉토리 레이아웃 이관 실행 환경 설정 클래스
+ *
+ * @author minyoung
+ * @version 1.0
+ ** 1. file.layout.migrate=true 이면 웹 서버 없이 실행 (이관 중 file_path 수정 전 파일 요청이 404 가 되지 않도록 요청을 받지 않음)
+ ** 2. 주기 작업은 SchedulingConfig 에서 같은 속성으로 제외
+ **/
+public class FileLayoutMigrationEnvironment implements EnvironmentPostProcessor {
+
+    /**
+     * 이관 실행 시 적용 속성
+     */
+    private static final String PROPERTY_SOURCE_NAME = "fileLayoutMigration";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty("file.layout.migrate", Boolean.class, false)) {
+            return;
+        }
+        environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of(
+                "spring.main.web-application-type", "none",
+                "management.server.port", "-1")));
+    }
+}
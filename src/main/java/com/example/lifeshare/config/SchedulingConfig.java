@@ -0,0 +1,19 @@
+package com.example.lifeshare.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 설정 클래스
+ *
+ * @author minyoung
+ * @version 1.0
+ ** 1. 업로드 디렉토리 레이아웃 이관(file.layout.migrate=true) 실행 시에는 주기 작업을 등록하지 않음
+ **    (고아 파일 정리, 영상 후처리, 삭제 대기 처리가 이관 중인 파일에 접근하지 않도록 함)
+ **/
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "file.layout.migrate", havingValue = "false", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,30 @@
+package com.example.lifeshare.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 설정 클래스
+ *
+ * @author minyoung
+ * @version 1.0
+ ** 1. 비동기 응답(StreamingResponseBody) 실행 스레드풀 지정 (미지정 시 요청마다 스레드를 만드는 SimpleAsyncTaskExecutor 사용)
+ **    - 처리 시간 제한은 spring.mvc.async.request-timeout
+ **/
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor mvcAsyncExecutor;
+
+    public WebMvcConfig(@Qualifier("mvcAsyncExecutor") ThreadPoolTaskExecutor mvcAsyncExecutor) {
+        this.mvcAsyncExecutor = mvcAsyncExecutor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor);
+    }
+}
@@ -4,6 +4,7 @@ import com.example.lifeshare.cmm.jwt.JwtAccessDeniedHandler;
 import com.example.lifeshare.cmm.jwt.JwtAuthenticationEntryPoint;
 import com.example.lifeshare.cmm.jwt.JwtRequestFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -33,6 +34,15 @@ public class WebSecurityConfig {
     private final UserDetailsService jwtUserDetailsService;
     private final JwtRequestFilter jwtRequestFilter;
 
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    /**
+     * actuator 전용 포트 (내부망에서만 접근, 서비스 포트와 같으면 prometheus 도 인증 필요)
+     */
+    @Value("${management.server.port:${server.port:8080}}")
+    private int managementPort;
+
     @Autowired
     public WebSecurityConfig(JwtAccessDeniedHandler jwtAccessDeniedHandler,
                              JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
@@ -84,8 +94,11 @@ public class WebSecurityConfig {
                                 "/api/user/check/email",
                                 "/api/user/pwd/request",
                                 "/api/user/pwd/reset",
-                                "/api/user/search"
+                                "/api/user/search",
+                                "/actuator/health"
                         ).permitAll()
+                        // actuator 전용 포트 요청 (메트릭 수집)
+                        .requestMatchers(request -> managementPort != serverPort && request.getLocalPort() == managementPort).permitAll()
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(ex -> ex
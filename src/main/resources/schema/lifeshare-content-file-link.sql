@@ -0,0 +1,39 @@
+-- =====================================================================
+-- 게시글 본문 삽입 파일 참조(lf_board_content_file) 1회 적재 (MySQL 8.0.19 이상)
+-- lifeshare-ddl.sql 로 테이블 생성 후, 애플리케이션 배포 전에 수동으로 실행한다.
+-- (적재 전에 고아 파일 정리가 실행되면 기존 게시글의 본문 삽입 파일이 삭제 대상이 됨)
+--
+-- - 게시글마다 본문의 /api/file?fileId={fileId} 를 순서대로 추출하여 (게시글, 파일) 참조로 등록
+-- - 파일 x 게시글 전체 비교 없이 게시글 1회 순회, 같은 파일을 여러 게시글이 참조하면 모두 등록
+-- - 컨텐츠 업로드 파일(targ_id = '0', 파생 파일 제외)만 등록, 이미 있는 참조는 무시하므로 재실행 가능
+-- - 게시글이 많으면 @from_board_id / @to_board_id 구간을 나눠 반복 실행
+-- =====================================================================
+
+SET @from_board_id = 0;
+SET @to_board_id = 18446744073709551615;
+
+INSERT IGNORE INTO lf_board_content_file (board_id, file_id, reg_dt)
+WITH RECURSIVE content_url (board_id, occurrence, url) AS (
+    SELECT board_id,
+           1,
+           REGEXP_SUBSTR(cont, '/api/file[?]fileId=[0-9]+', 1, 1)
+    FROM   lf_board_list
+    WHERE  board_id > @from_board_id
+      AND  board_id <= @to_board_id
+      AND  cont LIKE '%/api/file?fileId=%'
+    UNION ALL
+    SELECT u.board_id,
+           u.occurrence + 1,
+           REGEXP_SUBSTR(b.cont, '/api/file[?]fileId=[0-9]+', 1, u.occurrence + 1)
+    FROM   content_url u
+        JOIN lf_board_list b ON b.board_id = u.board_id
+    WHERE  u.url IS NOT NULL
+)
+SELECT DISTINCT u.board_id,
+       f.file_id,
+       NOW()
+FROM   content_url u
+    JOIN lf_file_list f ON f.file_id = CAST(SUBSTRING_INDEX(u.url, '=', -1) AS UNSIGNED)
+WHERE  u.url IS NOT NULL
+  AND  f.targ_id = '0'
+  AND  f.deriv_type IS NULL;
@@ -0,0 +1,103 @@
+-- =====================================================================
+-- lifeshare 스키마 보조 DDL (MySQL 8)
+-- 운영 DB 에 수동으로 적용한다. 애플리케이션 기동 시 자동 실행되지 않음.
+-- =====================================================================
+
+-- 공지사항 목록 keyset 페이징 / 정렬용 인덱스
+-- selectListCommunity : WHERE ctgr_id = ? AND (reg_dt, board_id) < (?, ?) ORDER BY reg_dt DESC, board_id DESC
+CREATE INDEX idx_lf_board_list_ctgr_reg ON lf_board_list (ctgr_id, reg_dt, board_id);
+
+-- 컨텐츠 주소(SHA-256) 기반 파일 blob, 동일 내용 파일은 하나의 물리 파일을 공유
+CREATE TABLE IF NOT EXISTS lf_file_blob (
+    blob_hash   CHAR(64)     NOT NULL COMMENT 'SHA-256 (hex)',
+    file_path   VARCHAR(500) NOT NULL COMMENT '저장 디렉토리 (구분자로 끝남)',
+    file_nm     VARCHAR(100) NOT NULL COMMENT '저장 파일명',
+    file_size   BIGINT       NOT NULL COMMENT '파일 크기',
+    ref_cnt     INT          NOT NULL DEFAULT 1 COMMENT '참조 수 (lf_file_list)',
+    reg_dt      DATETIME     NOT NULL,
+    PRIMARY KEY (blob_hash)
+);
+
+ALTER TABLE lf_file_list ADD COLUMN file_hash CHAR(64) NULL COMMENT 'lf_file_blob.blob_hash';
+CREATE INDEX idx_lf_file_list_file_hash ON lf_file_list (file_hash);
+
+-- 물리 파일 삭제 대기열 (파일 정보 삭제 트랜잭션에서 등록, 커밋 후 백그라운드 삭제 / 실패 시 재시도)
+CREATE TABLE IF NOT EXISTS lf_file_tombstone (
+    tomb_id     BIGINT       NOT NULL AUTO_INCREMENT,
+    blob_hash   CHAR(64)     NULL COMMENT 'lf_file_blob.blob_hash (blob 도입 이전 파일은 NULL)',
+    file_path   VARCHAR(600) NOT NULL COMMENT '삭제 대상 파일 전체 경로',
+    retry_cnt   INT          NOT NULL DEFAULT 0 COMMENT '재시도 횟수',
+    next_try_dt DATETIME     NOT NULL COMMENT '다음 시도 일시',
+    last_error  VARCHAR(500) NULL COMMENT '마지막 실패 사유',
+    reg_dt      DATETIME     NOT NULL,
+    PRIMARY KEY (tomb_id),
+    INDEX idx_lf_file_tombstone_next_try (next_try_dt)
+);
+
+-- 고아 파일 정리 시 저장 파일명 기준 참조 확인
+CREATE INDEX idx_lf_file_list_file_nm ON lf_file_list (file_nm);
+CREATE INDEX idx_lf_file_blob_file_nm ON lf_file_blob (file_nm);
+CREATE INDEX idx_lf_file_list_targ_id ON lf_file_list (targ_id, file_id);
+
+-- 분할(이어받기) 업로드 상태
+CREATE TABLE IF NOT EXISTS lf_file_upload (
+    upload_id     CHAR(32)     NOT NULL,
+    targ_id       VARCHAR(50)  NOT NULL COMMENT '대상 아이디',
+    type_nm       VARCHAR(50)  NULL COMMENT '타입 명',
+    video_yn      CHAR(1)      NOT NULL DEFAULT 'N' COMMENT '비디오 여부',
+    real_file_nm  VARCHAR(255) NOT NULL COMMENT '실제 파일 명',
+    content_type  VARCHAR(100) NULL COMMENT '컨텐츠 타입',
+    file_size     BIGINT       NOT NULL COMMENT '전체 파일 크기',
+    upload_dir    VARCHAR(500) NOT NULL COMMENT '저장 디렉토리',
+    part_path     VARCHAR(600) NOT NULL COMMENT '수신 중 파일 전체 경로',
+    status        VARCHAR(10)  NOT NULL COMMENT 'UPLOADING / COMPLETING / COMPLETE',
+    file_id       BIGINT       NULL COMMENT '완료 후 lf_file_list.file_id',
+    reg_dt        DATETIME     NOT NULL,
+    upd_dt        DATETIME     NOT NULL COMMENT '마지막 수신 일시',
+    PRIMARY KEY (upload_id),
+    INDEX idx_lf_file_upload_upd (status, upd_dt)
+);
+
+-- 분할 업로드 사용자 (수신/완료/취소 권한 확인, 사용자별 동시 업로드 건수/예약 크기 제한)
+ALTER TABLE lf_file_upload ADD COLUMN reg_id VARCHAR(50) NULL COMMENT '업로드 사용자 아이디';
+CREATE INDEX idx_lf_file_upload_reg_id ON lf_file_upload (reg_id, status);
+
+-- 분할 업로드 구간 수신 중인 요청 수 (완료 처리는 수신 중인 요청이 없을 때만 COMPLETING 으로 전환)
+ALTER TABLE lf_file_upload ADD COLUMN write_cnt INT NOT NULL DEFAULT 0 COMMENT '구간 수신 중인 요청 수';
+
+-- 분할 업로드 수신 구간 [range_start, range_end)
+CREATE TABLE IF NOT EXISTS lf_file_upload_range (
+    upload_id     CHAR(32)     NOT NULL,
+    range_start   BIGINT       NOT NULL,
+    range_end     BIGINT       NOT NULL,
+    PRIMARY KEY (upload_id, range_start)
+);
+
+-- 영상 파생 파일 (포스터 / HLS) : lf_file_list 에 type_nm = 'video', targ_id = 원본 file_id 로 등록
+ALTER TABLE lf_file_list ADD COLUMN deriv_type VARCHAR(20) NULL COMMENT '파생 파일 종류 (POSTER / HLS / HLS_SEGMENT), 원본은 NULL';
+
+-- 영상 후처리 작업 (업로드 커밋 후 처리, 실패 시 재시도)
+CREATE TABLE IF NOT EXISTS lf_file_video (
+    file_id       BIGINT       NOT NULL COMMENT '원본 lf_file_list.file_id',
+    status        VARCHAR(10)  NOT NULL COMMENT 'PENDING / RUNNING / DONE / FAILED / SKIPPED',
+    retry_cnt     INT          NOT NULL DEFAULT 0 COMMENT '재시도 횟수',
+    next_try_dt   DATETIME     NOT NULL COMMENT '다음 시도 일시',
+    last_error    VARCHAR(500) NULL COMMENT '마지막 실패 사유',
+    reg_dt        DATETIME     NOT NULL,
+    upd_dt        DATETIME     NOT NULL,
+    PRIMARY KEY (file_id),
+    INDEX idx_lf_file_video_status (status, next_try_dt)
+);
+
+-- 목록용 본문 요약 (태그 제거 텍스트 최대 200자, escape 후 저장), 등록/수정 시 갱신, 기존 행은 기동 시 채움
+ALTER TABLE lf_board_list ADD COLUMN excerpt VARCHAR(1200) NULL COMMENT '본문 요약';
+
+-- 게시글 본문이 참조하는 컨텐츠 업로드 파일 (lf_file_list.targ_id = '0'), 참조가 없는 파일만 고아 파일 정리 대상
+-- 게시글 등록/수정/삭제 시 본문 기준으로 갱신, 적용 전 등록된 게시글은 lifeshare-content-file-link.sql 로 채움
+CREATE TABLE IF NOT EXISTS lf_board_content_file (
+    board_id      BIGINT       NOT NULL COMMENT 'lf_board_list.board_id',
+    file_id       BIGINT       NOT NULL COMMENT 'lf_file_list.file_id',
+    reg_dt        DATETIME     NOT NULL,
+    PRIMARY KEY (board_id, file_id),
+    INDEX idx_lf_board_content_file_file_id (file_id)
+);
@@ -0,0 +1,179 @@
+package com.example.lifeshare.api.community.service;
+
+import com.example.lifeshare.api.community.mapper.CommunityMapper;
+import com.example.lifeshare.api.community.model.CommunityDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 공지사항 검색 색인 테스트
+ * - 2-gram 토큰 분리, 한 글자 검색어, AND 일치, 순위
+ */
+class CommunitySearchIndexTest {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private CommunityMapper communityMapper;
+
+    private CommunitySearchIndex communitySearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        communityMapper = mock(CommunityMapper.class);
+        communitySearchIndex = new CommunitySearchIndex(communityMapper);
+        ReflectionTestUtils.setField(communitySearchIndex, "batchSize", BATCH_SIZE);
+    }
+
+    private static CommunityDto board(long boardId, String title, String cont) {
+        CommunityDto board = new CommunityDto();
+        board.setBoardId(String.valueOf(boardId));
+        board.setTitle(title);
+        board.setCont(cont);
+        return board;
+    }
+
+    private void load(CommunityDto... boards) {
+        when(communityMapper.selectListCommunitySearchSource(0L, BATCH_SIZE)).thenReturn(List.of(boards));
+        communitySearchIndex.rebuild();
+    }
+
+    private List<String> search(String query) {
+        return communitySearchIndex.search(query, 10).boardIdList();
+    }
+
+    @Test
+    void tokenize_한글_2gram() {
+        assertThat(CommunitySearchIndex.tokenize("서울시청")).containsExactly("서울", "울시", "시청");
+        assertThat(CommunitySearchIndex.tokenize("서울 날씨")).containsExactly("서울", "날씨");
+    }
+
+    @Test
+    void tokenize_한글자_구간은_1gram() {
+        assertThat(CommunitySearchIndex.tokenize("서")).containsExactly("서");
+        assertThat(CommunitySearchIndex.tokenize("a 서울")).containsExactly("a", "서울");
+    }
+
+    @Test
+    void tokenize_정규화_소문자_구분자() {
+        assertThat(CommunitySearchIndex.tokenize("ＡＢＣ")).containsExactly("ab", "bc");
+        assertThat(CommunitySearchIndex.tokenize("Co-Op!")).containsExactly("co", "op");
+        assertThat(CommunitySearchIndex.tokenize("   ")).isEmpty();
+        assertThat(CommunitySearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void indexTokenize_1gram_포함() {
+        assertThat(CommunitySearchIndex.indexTokenize("서울시"))
+                .containsExactlyInAnyOrder("서", "울", "시", "서울", "울시");
+        assertThat(CommunitySearchIndex.indexTokenize("서")).containsExactly("서");
+    }
+
+    @Test
+    void 한글자_검색어는_긴_단어와_일치() {
+        load(board(1, "서울 날씨", "맑음"), board(2, "부산 날씨", "흐림"));
+
+        assertThat(search("서")).containsExactly("1");
+        assertThat(search("씨")).containsExactlyInAnyOrder("1", "2");
+        assertThat(search("울")).containsExactly("1");
+    }
+
+    @Test
+    void 두글자_검색어는_떨어진_글자와_불일치() {
+        load(board(1, "서 울", "서 울"));
+
+        assertThat(search("서울")).isEmpty();
+        assertThat(search("서 울")).containsExactly("1");
+    }
+
+    @Test
+    void 모든_토큰을_포함하는_게시글만_일치() {
+        load(board(1, "서울 날씨", null),
+                board(2, "서울 교통", null),
+                board(3, "부산 날씨", null));
+
+        assertThat(search("서울 날씨")).containsExactly("1");
+        assertThat(search("서울")).containsExactlyInAnyOrder("1", "2");
+        assertThat(search("서울 공항")).isEmpty();
+        assertThat(communitySearchIndex.search("서울 공항", 10).totalCnt()).isZero();
+    }
+
+    @Test
+    void 본문은_HTML_제거후_색인() {
+        load(board(1, "공지", "<p class=\"서울\">부산&nbsp;안내</p>"));
+
+        assertThat(search("부산 안내")).containsExactly("1");
+        assertThat(search("서울")).isEmpty();
+    }
+
+    @Test
+    void 제목_일치가_본문_일치보다_우선() {
+        load(board(1, "서울 안내", "일정"), board(2, "공지", "서울 안내"));
+
+        assertThat(search("서울")).containsExactly("1", "2");
+    }
+
+    @Test
+    void 빈도가_높을수록_우선() {
+        load(board(1, "공지", "서울"), board(2, "공지", "서울 서울 서울"));
+
+        assertThat(search("서울")).containsExactly("2", "1");
+    }
+
+    @Test
+    void 희소한_토큰의_가중치가_큼() {
+        // '공항' 은 두 게시글, '날씨' 는 모든 게시글에 있음 - 희소한 '공항' 빈도가 높은 게시글 우선
+        load(board(1, "공지", "공항 공항 날씨"),
+                board(2, "공지", "공항 날씨 날씨"),
+                board(3, "공지", "날씨"),
+                board(4, "공지", "날씨"),
+                board(5, "공지", "날씨"));
+
+        assertThat(search("날씨 공항")).containsExactly("1", "2");
+    }
+
+    @Test
+    void 동점은_최신순() {
+        load(board(1, "서울", null), board(2, "서울", null), board(3, "서울", null));
+
+        assertThat(search("서울")).containsExactly("3", "2", "1");
+    }
+
+    @Test
+    void 최대건수_제한과_전체건수() {
+        load(board(1, "서울", null), board(2, "서울", null), board(3, "서울", null));
+
+        CommunitySearchIndex.SearchResult result = communitySearchIndex.search("서울", 2);
+
+        assertThat(result.totalCnt()).isEqualTo(3);
+        assertThat(result.boardIdList()).containsExactly("3", "2");
+    }
+
+    @Test
+    void 재색인_수정_및_삭제_반영() {
+        load(board(1, "서울", null), board(2, "부산", null));
+        assertThat(communitySearchIndex.isReady()).isTrue();
+
+        when(communityMapper.selectListCommunitySearchSourceByIdList(anyList()))
+                .thenReturn(List.of(board(1, "대구", null)));
+        communitySearchIndex.reindexAfterCommit(List.of("1", "2"));
+
+        assertThat(search("서울")).isEmpty();
+        assertThat(search("대구")).containsExactly("1");
+        assertThat(search("부산")).isEmpty();
+        assertThat(search("구")).containsExactly("1");
+    }
+
+    @Test
+    void 적재전_검색은_빈결과() {
+        assertThat(communitySearchIndex.isReady()).isFalse();
+        assertThat(search("서울")).isEmpty();
+    }
+}
@@ -0,0 +1,307 @@
+package com.example.lifeshare.api.file.service;
+
+import com.example.lifeshare.api.file.mapper.FileMapper;
+import com.example.lifeshare.api.file.model.FileBlobDto;
+import com.example.lifeshare.api.file.model.FileDto;
+import com.example.lifeshare.api.file.model.StagedFileDto;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 파일 blob 참조수 테스트 (MySQL 컨테이너, Docker 가 없으면 건너뜀)
+ * - 같은 해시 업로드/해제 경합 시 참조수와 물리 파일 유지
+ * - 업로드/해제 롤백 시 참조수 유지
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class FileServiceBlobTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36")
+            .withInitScript("schema/file-blob-test.sql");
+
+    /**
+     * 잠금 대기 중인지 확인하는 대기 시간 (ms)
+     */
+    private static final long BLOCK_CHECK_MS = 500L;
+
+    @TempDir
+    Path root;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private FileMapper fileMapper;
+
+    private TransactionTemplate transactionTemplate;
+
+    private FileTombstoneWorker fileTombstoneWorker;
+
+    private FileService fileService;
+
+    private String uploadDir;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DELETE FROM lf_file_list");
+        jdbcTemplate.execute("DELETE FROM lf_file_blob");
+        jdbcTemplate.execute("DELETE FROM lf_file_tombstone");
+
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        SqlSessionFactoryBean sessionFactory = new SqlSessionFactoryBean();
+        sessionFactory.setDataSource(dataSource);
+        sessionFactory.setConfigLocation(resolver.getResource("classpath:mybatis-config.xml"));
+        sessionFactory.setMapperLocations(resolver.getResources("classpath:sql/*.xml"));
+        SqlSessionFactory sqlSessionFactory = sessionFactory.getObject();
+        fileMapper = new SqlSessionTemplate(sqlSessionFactory).getMapper(FileMapper.class);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        FileStorage fileStorage = new LocalFileStorage(root.toString());
+        FileThumbnailGenerator fileThumbnailGenerator = mock(FileThumbnailGenerator.class);
+        // 커밋 후 처리 요청은 무시하고 테스트에서 drain 직접 호출
+        fileTombstoneWorker = new FileTombstoneWorker(fileMapper, fileThumbnailGenerator, fileStorage, transactionTemplate, task -> {
+        });
+        ReflectionTestUtils.setField(fileTombstoneWorker, "batchSize", 200);
+        ReflectionTestUtils.setField(fileTombstoneWorker, "warnRetryCnt", 10);
+
+        fileService = new FileService(fileMapper,
+                new FileStreamWriter(),
+                new FileLayout(2, 2),
+                fileStorage,
+                mock(FileMetaCache.class),
+                mock(FileByteCache.class),
+                fileThumbnailGenerator,
+                fileTombstoneWorker,
+                mock(FileMetrics.class),
+                mock(FileVideoPipeline.class),
+                transactionTemplate,
+                mock(ApplicationEventPublisher.class),
+                Runnable::run);
+        ReflectionTestUtils.setField(fileService, "streamMaxSize", 1024L * 1024L);
+        uploadDir = root.resolve("community").toString();
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private StagedFileDto stage(String content) {
+        return fileService.stageStream(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                "a.txt", "text/plain", uploadDir);
+    }
+
+    private FileDto upload(String content) {
+        StagedFileDto stagedFile = stage(content);
+        return transactionTemplate.execute(status ->
+                fileService.saveStagedFiles(List.of(stagedFile), "1", "N", "community").get(0));
+    }
+
+    private void release(FileDto fileDto) {
+        transactionTemplate.executeWithoutResult(status -> fileService.releaseFiles(List.of(fileDto)));
+    }
+
+    private Integer refCnt(String blobHash) {
+        FileBlobDto fileBlobDto = fileMapper.selectOneFileBlob(blobHash);
+        return fileBlobDto == null ? null : fileBlobDto.getRefCnt();
+    }
+
+    private int tombstoneCnt() {
+        Integer cnt = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM lf_file_tombstone", Integer.class);
+        return cnt == null ? 0 : cnt;
+    }
+
+    private static Path blobFile(FileDto fileDto) {
+        return Paths.get(fileDto.getFilePath() + fileDto.getFileNm());
+    }
+
+    /**
+     * 다른 스레드 작업이 잠금 대기로 끝나지 않았는지 확인
+     */
+    private static void assertBlocked(Future<?> future) throws InterruptedException {
+        Thread.sleep(BLOCK_CHECK_MS);
+        assertThat(future).isNotDone();
+    }
+
+    @Test
+    void 같은_내용_업로드는_blob_공유() {
+        FileDto first = upload("same content");
+        FileDto second = upload("same content");
+
+        assertThat(second.getFileHash()).isEqualTo(first.getFileHash());
+        assertThat(blobFile(second)).isEqualTo(blobFile(first)).exists();
+        assertThat(refCnt(first.getFileHash())).isEqualTo(2);
+    }
+
+    @Test
+    void 참조가_남으면_blob_유지() {
+        FileDto first = upload("shared");
+        upload("shared");
+
+        release(first);
+
+        assertThat(refCnt(first.getFileHash())).isEqualTo(1);
+        assertThat(tombstoneCnt()).isZero();
+        assertThat(blobFile(first)).exists();
+    }
+
+    @Test
+    void 마지막_참조_해제시_blob_삭제() {
+        FileDto fileDto = upload("only one");
+
+        release(fileDto);
+        fileTombstoneWorker.drain();
+
+        assertThat(refCnt(fileDto.getFileHash())).isNull();
+        assertThat(tombstoneCnt()).isZero();
+        assertThat(blobFile(fileDto)).doesNotExist();
+    }
+
+    @Test
+    void 업로드_롤백시_참조수_유지() {
+        FileDto fileDto = upload("rollback upload");
+        StagedFileDto stagedFile = stage("rollback upload");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            fileService.saveStagedFiles(List.of(stagedFile), "1", "N", "community");
+            assertThat(refCnt(fileDto.getFileHash())).isEqualTo(2);
+            status.setRollbackOnly();
+        });
+
+        assertThat(refCnt(fileDto.getFileHash())).isEqualTo(1);
+        assertThat(blobFile(fileDto)).exists();
+    }
+
+    @Test
+    void 신규_blob_업로드_롤백시_blob_미등록() {
+        StagedFileDto stagedFile = stage("new blob rollback");
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            fileService.saveStagedFiles(List.of(stagedFile), "1", "N", "community");
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(refCnt(stagedFile.getFileHash())).isNull();
+    }
+
+    @Test
+    void 해제_롤백시_참조수_유지() {
+        FileDto first = upload("rollback release");
+        FileDto second = upload("rollback release");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            fileService.releaseFiles(List.of(first, second));
+            assertThat(refCnt(first.getFileHash())).isNull();
+            status.setRollbackOnly();
+        });
+
+        assertThat(refCnt(first.getFileHash())).isEqualTo(2);
+        assertThat(tombstoneCnt()).isZero();
+        fileTombstoneWorker.drain();
+        assertThat(blobFile(first)).exists();
+    }
+
+    @Test
+    void 마지막_참조_해제중_같은_내용_업로드시_파일_유지() throws Exception {
+        FileDto fileDto = upload("race content");
+        CountDownLatch released = new CountDownLatch(1);
+        CountDownLatch commitGate = new CountDownLatch(1);
+
+        // 해제 트랜잭션 - blob 행 삭제 후 커밋 대기
+        Future<?> releaseFuture = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            fileService.releaseFiles(List.of(fileDto));
+            released.countDown();
+            try {
+                commitGate.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(released.await(30, TimeUnit.SECONDS)).isTrue();
+
+        // 같은 내용 업로드 - 해제 트랜잭션의 blob 행 잠금 대기
+        StagedFileDto stagedFile = stage("race content");
+        Future<FileDto> uploadFuture = executor.submit(() -> transactionTemplate.execute(status ->
+                fileService.saveStagedFiles(List.of(stagedFile), "1", "N", "community").get(0)));
+        assertBlocked(uploadFuture);
+
+        commitGate.countDown();
+        releaseFuture.get(30, TimeUnit.SECONDS);
+        FileDto uploaded = uploadFuture.get(30, TimeUnit.SECONDS);
+
+        // 해제 커밋 후 새 blob 으로 등록, 삭제 대기는 blob 이 살아 있으므로 파일 유지
+        assertThat(refCnt(fileDto.getFileHash())).isEqualTo(1);
+        assertThat(tombstoneCnt()).isEqualTo(1);
+        fileTombstoneWorker.drain();
+        assertThat(tombstoneCnt()).isZero();
+        assertThat(blobFile(uploaded)).isEqualTo(blobFile(fileDto)).exists();
+        assertThat(Files.readString(blobFile(uploaded))).isEqualTo("race content");
+        assertThat(stagedFile.getTmpPath()).doesNotExist();
+    }
+
+    @Test
+    void 같은_내용_업로드중_마지막_참조_해제시_blob_유지() throws Exception {
+        FileDto fileDto = upload("race upload first");
+        CountDownLatch saved = new CountDownLatch(1);
+        CountDownLatch commitGate = new CountDownLatch(1);
+
+        // 업로드 트랜잭션 - 참조수 증가 후 커밋 대기
+        StagedFileDto stagedFile = stage("race upload first");
+        Future<?> uploadFuture = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            fileService.saveStagedFiles(List.of(stagedFile), "1", "N", "community");
+            saved.countDown();
+            try {
+                commitGate.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(saved.await(30, TimeUnit.SECONDS)).isTrue();
+
+        // 해제 - 업로드 트랜잭션의 blob 행 잠금 대기
+        Future<?> releaseFuture = executor.submit(() -> release(fileDto));
+        assertBlocked(releaseFuture);
+
+        commitGate.countDown();
+        uploadFuture.get(30, TimeUnit.SECONDS);
+        releaseFuture.get(30, TimeUnit.SECONDS);
+
+        assertThat(refCnt(fileDto.getFileHash())).isEqualTo(1);
+        assertThat(tombstoneCnt()).isZero();
+        assertThat(blobFile(fileDto)).exists();
+    }
+}
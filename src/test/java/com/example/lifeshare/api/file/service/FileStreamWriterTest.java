@@ -0,0 +1,357 @@
+package com.example.lifeshare.api.file.service;
+
+import com.example.lifeshare.api.file.model.FileDto;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파일 응답 전송 테스트
+ * - Range / If-Range 해석, 416 응답, 다중 범위 길이 제한, 304 조건부 응답
+ */
+class FileStreamWriterTest {
+
+    /**
+     * 파일 수정시각 (초 단위 정렬)
+     */
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    private static final String CONTENT = "abcdefghijklmnopqrstuvwxyz".repeat(4).substring(0, 100);
+
+    private static final String ETAG = "\"hash-100\"";
+
+    private final FileStreamWriter fileStreamWriter = new FileStreamWriter();
+
+    private FileDto fileDto;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        fileDto = new FileDto();
+        fileDto.setFileId("1");
+        fileDto.setExt("text/plain");
+        fileDto.setFileHash("hash-100");
+        request = new MockHttpServletRequest("GET", "/api/file");
+        response = new MockHttpServletResponse();
+    }
+
+    private long write() throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(CONTENT.getBytes(StandardCharsets.US_ASCII));
+        return fileStreamWriter.write(data, LAST_MODIFIED, fileDto, request, response);
+    }
+
+    private static String httpDate(long millis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC));
+    }
+
+    private void assertRangeNotSatisfiable(long written) {
+        assertThat(written).isZero();
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */100");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void Range_없음_전체전송() throws IOException {
+        long written = write();
+
+        assertThat(written).isEqualTo(100);
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getContentLengthLong()).isEqualTo(100);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(LAST_MODIFIED);
+    }
+
+    @Test
+    void 단일범위() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+
+        long written = write();
+
+        assertThat(written).isEqualTo(10);
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_PARTIAL_CONTENT);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 10-19/100");
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT.substring(10, 20));
+    }
+
+    @Test
+    void 단일범위_끝생략_및_끝초과는_파일끝까지() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=95-");
+        write();
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 95-99/100");
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT.substring(95));
+
+        request = new MockHttpServletRequest("GET", "/api/file");
+        response = new MockHttpServletResponse();
+        request.addHeader(HttpHeaders.RANGE, "bytes=90-500");
+        write();
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 90-99/100");
+    }
+
+    @Test
+    void 단일범위_접미사() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=-5");
+
+        long written = write();
+
+        assertThat(written).isEqualTo(5);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 95-99/100");
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT.substring(95));
+    }
+
+    @Test
+    void 시작위치가_파일길이_이상이면_416() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-");
+
+        assertRangeNotSatisfiable(write());
+    }
+
+    @Test
+    void 잘못된_Range_형식은_416() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=abc");
+
+        assertRangeNotSatisfiable(write());
+    }
+
+    @Test
+    void 역순_범위는_416() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-10");
+
+        assertRangeNotSatisfiable(write());
+    }
+
+    @Test
+    void 다중범위_multipart_byteranges() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9,20-29");
+
+        long written = write();
+
+        assertThat(written).isEqualTo(20);
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_PARTIAL_CONTENT);
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        String boundary = response.getContentType().substring("multipart/byteranges; boundary=".length());
+        String body = response.getContentAsString();
+        assertThat(body)
+                .contains("Content-Range: bytes 0-9/100\r\n\r\n" + CONTENT.substring(0, 10) + "\r\n--" + boundary)
+                .contains("Content-Range: bytes 20-29/100\r\n\r\n" + CONTENT.substring(20, 30))
+                .endsWith("\r\n--" + boundary + "--\r\n");
+    }
+
+    @Test
+    void 다중범위_합계가_파일길이와_같으면_허용() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-49,50-99");
+
+        long written = write();
+
+        assertThat(written).isEqualTo(100);
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_PARTIAL_CONTENT);
+    }
+
+    @Test
+    void 다중범위_합계가_파일길이_초과시_416() throws IOException {
+        // 겹치는 범위로 파일을 여러 번 전송하는 요청
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-59,40-99");
+
+        assertRangeNotSatisfiable(write());
+    }
+
+    @Test
+    void 다중범위_같은범위_반복은_416() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-,0-,0-");
+
+        assertRangeNotSatisfiable(write());
+    }
+
+    @Test
+    void 단일범위는_길이제한_대상아님() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-99");
+
+        long written = write();
+
+        assertThat(written).isEqualTo(100);
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_PARTIAL_CONTENT);
+    }
+
+    @Test
+    void IfRange_ETag_일치시_범위전송() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        request.addHeader(HttpHeaders.IF_RANGE, ETAG);
+
+        write();
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_PARTIAL_CONTENT);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT.substring(0, 10));
+    }
+
+    @Test
+    void IfRange_ETag_불일치시_전체전송() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+
+        long written = write();
+
+        assertThat(written).isEqualTo(100);
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+    }
+
+    @Test
+    void IfRange_약한ETag는_불일치() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        request.addHeader(HttpHeaders.IF_RANGE, "W/" + ETAG);
+
+        write();
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    void IfRange_날짜_수정시각_이후면_범위전송() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        request.addHeader(HttpHeaders.IF_RANGE, httpDate(LAST_MODIFIED));
+
+        write();
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_PARTIAL_CONTENT);
+    }
+
+    @Test
+    void IfRange_날짜_수정시각_이전이면_전체전송() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        request.addHeader(HttpHeaders.IF_RANGE, httpDate(LAST_MODIFIED - 60_000L));
+
+        write();
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    void IfRange_불일치면_잘못된_Range도_무시() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=500-");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+
+        write();
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    void IfNoneMatch_일치시_304() throws IOException {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+
+        long written = write();
+
+        assertThat(written).isZero();
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+    }
+
+    @Test
+    void IfNoneMatch_불일치시_전체전송() throws IOException {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+
+        long written = write();
+
+        assertThat(written).isEqualTo(100);
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    void IfModifiedSince_수정없음_304() throws IOException {
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, httpDate(LAST_MODIFIED));
+
+        long written = write();
+
+        assertThat(written).isZero();
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+    }
+
+    @Test
+    void IfModifiedSince_이후수정_전체전송() throws IOException {
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, httpDate(LAST_MODIFIED - 60_000L));
+
+        write();
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    void HEAD_요청은_본문없음() throws IOException {
+        request.setMethod("HEAD");
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+
+        long written = write();
+
+        assertThat(written).isZero();
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_PARTIAL_CONTENT);
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void 해시없으면_fileId_크기_수정시각_ETag() {
+        fileDto.setFileHash(null);
+
+        assertThat(fileStreamWriter.buildETag(fileDto, 100, LAST_MODIFIED))
+                .isEqualTo("\"1-" + Long.toHexString(100) + "-" + Long.toHexString(LAST_MODIFIED) + "\"");
+    }
+
+    @Test
+    void 파일_범위전송() throws IOException {
+        Path filePath = writeFile();
+        request.addHeader(HttpHeaders.RANGE, "bytes=50-59");
+
+        long written = fileStreamWriter.write(filePath, fileDto, request, response);
+
+        assertThat(written).isEqualTo(10);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT.substring(50, 60));
+    }
+
+    @Test
+    void 파일_sendfile_지원시_컨테이너에_위임() throws IOException {
+        Path filePath = writeFile();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=50-59");
+
+        fileStreamWriter.write(filePath, fileDto, request, response);
+
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(filePath.toRealPath().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(50L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(60L);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private Path writeFile() throws IOException {
+        Path filePath = tempDir.resolve("a.txt");
+        Files.writeString(filePath, CONTENT, StandardCharsets.US_ASCII);
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(LAST_MODIFIED));
+        return filePath;
+    }
+}
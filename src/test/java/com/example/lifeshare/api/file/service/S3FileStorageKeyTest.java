@@ -0,0 +1,87 @@
+package com.example.lifeshare.api.file.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * S3 저장소 키 매핑 테스트 (업로드 디렉토리 기준 경로 -> 저장소 키 -> 오브젝트 키)
+ */
+class S3FileStorageKeyTest {
+
+    @TempDir
+    Path root;
+
+    private S3FileStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = newStorage("community");
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.destroy();
+    }
+
+    private S3FileStorage newStorage(String prefix) {
+        return new S3FileStorage(root.toString(), "http://127.0.0.1:9000", "us-east-1", "lifeshare", prefix,
+                "access", "secret", true, 0L);
+    }
+
+    @Test
+    void keyOf_업로드디렉토리_하위는_상대경로() {
+        assertThat(storage.keyOf(root.resolve("2024").resolve("01").resolve("a.jpg"))).isEqualTo("2024/01/a.jpg");
+    }
+
+    @Test
+    void keyOf_경로_정규화() {
+        assertThat(storage.keyOf(root.resolve("2024").resolve("..").resolve("b").resolve("./c.png"))).isEqualTo("b/c.png");
+    }
+
+    @Test
+    void keyOf_업로드디렉토리_밖은_절대경로() {
+        Path outside = root.getParent().resolve("other").resolve("x.bin").toAbsolutePath().normalize();
+        assertThat(storage.keyOf(outside)).isEqualTo(outside.toString().replace(File.separatorChar, '/'));
+    }
+
+    @Test
+    void localPath_키의_역변환() {
+        Path filePath = root.resolve("2024").resolve("01").resolve("a.jpg");
+        assertThat(storage.localPath(storage.keyOf(filePath))).isEqualTo(filePath.toAbsolutePath().normalize());
+    }
+
+    @Test
+    void objectKey_prefix_구분자_보정() {
+        assertThat(storage.objectKey("2024/01/a.jpg")).isEqualTo("community/2024/01/a.jpg");
+
+        S3FileStorage slashPrefix = newStorage("community/");
+        try {
+            assertThat(slashPrefix.objectKey("2024/01/a.jpg")).isEqualTo("community/2024/01/a.jpg");
+        } finally {
+            slashPrefix.destroy();
+        }
+    }
+
+    @Test
+    void objectKey_prefix_없음() {
+        S3FileStorage noPrefix = newStorage("");
+        try {
+            assertThat(noPrefix.objectKey("2024/01/a.jpg")).isEqualTo("2024/01/a.jpg");
+        } finally {
+            noPrefix.destroy();
+        }
+    }
+
+    @Test
+    void objectKey_절대경로_키는_선행구분자_제거() {
+        assertThat(storage.objectKey("/var/tmp/x.bin")).isEqualTo("community/var/tmp/x.bin");
+        assertThat(storage.objectKey("//var/tmp/x.bin")).isEqualTo("community/var/tmp/x.bin");
+    }
+}
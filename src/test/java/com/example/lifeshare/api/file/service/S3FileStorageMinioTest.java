@@ -0,0 +1,236 @@
+package com.example.lifeshare.api.file.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.verify;
+
+/**
+ * S3 저장소 통합 테스트 (MinIO 컨테이너, Docker 가 없으면 건너뜀)
+ * - 단일 업로드 / multipart 업로드 / multipart 실패 시 abort / 구간 읽기 / 서명 URL
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3FileStorageMinioTest {
+
+    private static final String BUCKET = "lifeshare";
+
+    private static final String PREFIX = "community/";
+
+    /**
+     * multipart 최소 part 크기 (S3FileStorage 의 part-size 하한)
+     */
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @Container
+    static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2024-05-10T01-41-38Z");
+
+    private static S3Client adminClient;
+
+    @TempDir
+    Path root;
+
+    private S3Client s3Client;
+
+    private S3Presigner s3Presigner;
+
+    private S3FileStorage storage;
+
+    @BeforeAll
+    static void createBucket() {
+        adminClient = newClient();
+        adminClient.createBucket(b -> b.bucket(BUCKET));
+    }
+
+    @AfterAll
+    static void closeAdminClient() {
+        adminClient.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        s3Client = Mockito.spy(newClient());
+        s3Presigner = S3Presigner.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(credentials())
+                .serviceConfiguration(pathStyle())
+                .endpointOverride(URI.create(MINIO.getS3URL()))
+                .build();
+        storage = new S3FileStorage(root.toString(), BUCKET, PREFIX, PART_SIZE, s3Client, s3Presigner);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.destroy();
+    }
+
+    private static S3Client newClient() {
+        return S3Client.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(credentials())
+                .serviceConfiguration(pathStyle())
+                .endpointOverride(URI.create(MINIO.getS3URL()))
+                .build();
+    }
+
+    private static StaticCredentialsProvider credentials() {
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(MINIO.getUserName(), MINIO.getPassword()));
+    }
+
+    private static S3Configuration pathStyle() {
+        return S3Configuration.builder().pathStyleAccessEnabled(true).build();
+    }
+
+    private Path writeSource(byte[] data) throws IOException {
+        Path source = Files.createTempFile(root, "upload", ".tmp");
+        Files.write(source, data);
+        return source;
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+
+    private byte[] read(String key, long start, long count) throws IOException {
+        try (InputStream in = storage.openStream(key, start, count)) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    void store_단일업로드_후_원본삭제_및_조회() throws IOException {
+        byte[] data = randomBytes(4096);
+        Path source = writeSource(data);
+
+        storage.store(source, "2024/01/a.bin", "application/octet-stream");
+
+        assertThat(source).doesNotExist();
+        FileStorage.StoredObject stored = storage.stat("2024/01/a.bin");
+        assertThat(stored).isNotNull();
+        assertThat(stored.size()).isEqualTo(data.length);
+        assertThat(adminClient.headObject(b -> b.bucket(BUCKET).key(PREFIX + "2024/01/a.bin")).contentLength())
+                .isEqualTo(data.length);
+        assertThat(read("2024/01/a.bin", 0, -1)).isEqualTo(data);
+    }
+
+    @Test
+    void stat_없는_키는_null() throws IOException {
+        assertThat(storage.stat("2024/01/none.bin")).isNull();
+    }
+
+    @Test
+    void openStream_구간읽기() throws IOException {
+        byte[] data = randomBytes(10000);
+        storage.store(writeSource(data), "2024/01/range.bin", null);
+
+        assertThat(read("2024/01/range.bin", 100, 50)).isEqualTo(Arrays.copyOfRange(data, 100, 150));
+        assertThat(read("2024/01/range.bin", 9990, -1)).isEqualTo(Arrays.copyOfRange(data, 9990, 10000));
+        assertThat(read("2024/01/range.bin", 0, 1)).isEqualTo(Arrays.copyOfRange(data, 0, 1));
+    }
+
+    @Test
+    void store_multipart_업로드() throws IOException {
+        byte[] data = randomBytes(PART_SIZE * 2 + 1234);
+        storage.store(writeSource(data), "2024/01/large.bin", "video/mp4");
+
+        verify(s3Client, atLeastOnce()).createMultipartUpload(any(Consumer.class));
+        assertThat(storage.stat("2024/01/large.bin").size()).isEqualTo(data.length);
+        // part 경계를 걸친 구간
+        assertThat(read("2024/01/large.bin", PART_SIZE - 10, 20))
+                .isEqualTo(Arrays.copyOfRange(data, PART_SIZE - 10, PART_SIZE + 10));
+        assertThat(read("2024/01/large.bin", 0, -1)).isEqualTo(data);
+    }
+
+    @Test
+    void store_multipart_실패시_abort_및_원본유지() throws IOException {
+        byte[] data = randomBytes(PART_SIZE * 2 + 1);
+        Path source = writeSource(data);
+        // 두 번째 part 업로드 실패
+        doCallRealMethod()
+                .doThrow(SdkClientException.create("part upload failed"))
+                .when(s3Client).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+
+        assertThatThrownBy(() -> storage.store(source, "2024/01/aborted.bin", "video/mp4"))
+                .isInstanceOf(IOException.class);
+
+        verify(s3Client).abortMultipartUpload(any(Consumer.class));
+        assertThat(source).exists();
+        assertThat(storage.stat("2024/01/aborted.bin")).isNull();
+        assertThat(adminClient.listMultipartUploads(b -> b.bucket(BUCKET).prefix(PREFIX + "2024/01/aborted.bin")).uploads())
+                .isEmpty();
+    }
+
+    @Test
+    void delete_후_조회() throws IOException {
+        storage.store(writeSource(randomBytes(10)), "2024/01/deleted.bin", null);
+
+        storage.delete("2024/01/deleted.bin");
+        storage.delete("2024/01/deleted.bin");
+
+        assertThat(storage.stat("2024/01/deleted.bin")).isNull();
+    }
+
+    @Test
+    void presignedUrl_다운로드() throws IOException, InterruptedException {
+        byte[] data = randomBytes(2048);
+        storage.store(writeSource(data), "2024/01/signed.bin", null);
+
+        URI url = storage.presignedUrl("2024/01/signed.bin", "image/png", "사진.png", Duration.ofMinutes(5));
+        HttpResponse<byte[]> response = HttpClient.newHttpClient()
+                .send(HttpRequest.newBuilder(url).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo(data);
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("image/png");
+        assertThat(response.headers().firstValue("Content-Disposition")).hasValueSatisfying(disposition ->
+                assertThat(disposition).startsWith("attachment").contains("filename*=UTF-8''%EC%82%AC%EC%A7%84.png"));
+    }
+
+    @Test
+    void presignedUrl_만료() throws IOException, InterruptedException {
+        storage.store(writeSource(randomBytes(16)), "2024/01/expired.bin", null);
+
+        URI url = storage.presignedUrl("2024/01/expired.bin", null, null, Duration.ofSeconds(1));
+        Thread.sleep(2000L);
+        HttpResponse<Void> response = HttpClient.newHttpClient()
+                .send(HttpRequest.newBuilder(url).GET().build(), HttpResponse.BodyHandlers.discarding());
+
+        assertThat(response.statusCode()).isEqualTo(403);
+    }
+}
@@ -0,0 +1,37 @@
+-- FileServiceBlobTest 용 스키마 (lf_file_list 기본 컬럼 + lifeshare-ddl.sql 의 blob / 삭제 대기 테이블)
+CREATE TABLE lf_file_list (
+    file_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    targ_id      VARCHAR(50)  NULL,
+    type_nm      VARCHAR(50)  NULL,
+    file_nm      VARCHAR(100) NULL,
+    real_file_nm VARCHAR(255) NULL,
+    file_path    VARCHAR(500) NULL,
+    ext          VARCHAR(100) NULL,
+    video_yn     CHAR(1)      NULL,
+    file_hash    CHAR(64)     NULL,
+    deriv_type   VARCHAR(20)  NULL,
+    reg_dt       DATETIME     NOT NULL,
+    PRIMARY KEY (file_id)
+);
+
+CREATE TABLE lf_file_blob (
+    blob_hash   CHAR(64)     NOT NULL,
+    file_path   VARCHAR(500) NOT NULL,
+    file_nm     VARCHAR(100) NOT NULL,
+    file_size   BIGINT       NOT NULL,
+    ref_cnt     INT          NOT NULL DEFAULT 1,
+    reg_dt      DATETIME     NOT NULL,
+    PRIMARY KEY (blob_hash)
+);
+
+CREATE TABLE lf_file_tombstone (
+    tomb_id     BIGINT       NOT NULL AUTO_INCREMENT,
+    blob_hash   CHAR(64)     NULL,
+    file_path   VARCHAR(600) NOT NULL,
+    retry_cnt   INT          NOT NULL DEFAULT 0,
+    next_try_dt DATETIME     NOT NULL,
+    last_error  VARCHAR(500) NULL,
+    reg_dt      DATETIME     NOT NULL,
+    PRIMARY KEY (tomb_id),
+    INDEX idx_lf_file_tombstone_next_try (next_try_dt)
+);